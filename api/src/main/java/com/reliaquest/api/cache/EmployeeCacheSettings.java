@@ -0,0 +1,26 @@
+package com.reliaquest.api.cache;
+
+import java.time.Duration;
+
+/**
+ * Tuning knobs for {@link EmployeeSnapshotCache}.
+ *
+ * @param ttl how long a loaded snapshot may be served before a read has to reload it
+ * @param refreshAhead how long before expiry the background refresh kicks in
+ * @param maxStale how long past its TTL a snapshot may still be served while the upstream cannot be reached
+ * @param warmUp whether the snapshot is loaded when the application starts
+ */
+public record EmployeeCacheSettings(Duration ttl, Duration refreshAhead, Duration maxStale, boolean warmUp) {
+
+    public static EmployeeCacheSettings defaults() {
+        return new EmployeeCacheSettings(Duration.ofSeconds(60), Duration.ofSeconds(10), Duration.ofMinutes(10), false);
+    }
+
+    /**
+     * Delay after a successful load before the background refresh is attempted.
+     */
+    public Duration refreshDelay() {
+        Duration delay = ttl.minus(refreshAhead);
+        return delay.isNegative() || delay.isZero() ? ttl : delay;
+    }
+}
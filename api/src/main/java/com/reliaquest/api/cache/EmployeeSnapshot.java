@@ -0,0 +1,165 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Immutable, versioned view of the upstream employee list and the indexes derived from it. Write-through updates
+ * produce a new snapshot rather than mutating this one, so readers holding a reference always see a consistent list.
+ */
+public record EmployeeSnapshot(
+        long version,
+        List<Employee> employees,
+        Map<UUID, Employee> byId,
+        SalaryIndex salaryIndex,
+        NameIndex nameIndex,
+        Instant loadedAt) {
+
+    /**
+     * Each incremental index update copies the index once, so past one change per this many employees a rebuild wins.
+     */
+    private static final int REINDEX_RATIO = 16;
+
+    public static EmployeeSnapshot of(long version, List<Employee> employees, Instant loadedAt) {
+        Map<UUID, Employee> byId = new LinkedHashMap<>();
+        for (Employee employee : employees) {
+            if (employee.id() != null) {
+                byId.put(employee.id(), employee);
+            }
+        }
+        List<Employee> copy = List.copyOf(employees);
+        return new EmployeeSnapshot(
+                version, copy, Collections.unmodifiableMap(byId), SalaryIndex.of(copy), NameIndex.of(copy), loadedAt);
+    }
+
+    /**
+     * Returns this snapshot with its load time moved to {@code loadedAt}, for an upstream that confirmed the list is
+     * unchanged. The version and indexes are kept.
+     */
+    public EmployeeSnapshot reloadedAt(Instant loadedAt) {
+        return new EmployeeSnapshot(version, employees, byId, salaryIndex, nameIndex, loadedAt);
+    }
+
+    public Optional<Employee> findById(UUID id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    public Duration ageAt(Instant now) {
+        return Duration.between(loadedAt, now);
+    }
+
+    /**
+     * Returns a copy of this snapshot including {@code employee}, replacing any employee with the same id. The load
+     * time is kept, so write-through updates do not extend the snapshot's TTL.
+     */
+    public EmployeeSnapshot withAdded(Employee employee) {
+        Employee replaced = employee.id() == null ? null : byId.get(employee.id());
+        List<Employee> updated = new ArrayList<>(employees.size() + 1);
+        for (Employee existing : employees) {
+            if (existing != replaced) {
+                updated.add(existing);
+            }
+        }
+        updated.add(employee);
+        Map<UUID, Employee> ids = new LinkedHashMap<>(byId);
+        if (employee.id() != null) {
+            ids.put(employee.id(), employee);
+        }
+        SalaryIndex salaries = replaced == null ? salaryIndex : salaryIndex.without(replaced);
+        NameIndex names = replaced == null ? nameIndex : nameIndex.without(replaced);
+        return new EmployeeSnapshot(
+                version + 1,
+                Collections.unmodifiableList(updated),
+                Collections.unmodifiableMap(ids),
+                salaries.with(employee),
+                names.with(employee),
+                loadedAt);
+    }
+
+    /**
+     * Returns a copy of this snapshot with {@code deleted} removed and then {@code created} added, replacing employees
+     * with the same id, as one new version. The load time is kept. The indexes are updated change by change, unless
+     * the changes touch so much of the snapshot that rebuilding them is cheaper.
+     */
+    public EmployeeSnapshot withChanges(Collection<Employee> created, Collection<UUID> deleted) {
+        if (created.isEmpty() && deleted.isEmpty()) {
+            return this;
+        }
+        Map<UUID, Employee> ids = new LinkedHashMap<>(byId);
+        Set<Employee> dropped = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (UUID id : deleted) {
+            Employee removed = ids.remove(id);
+            if (removed != null) {
+                dropped.add(removed);
+            }
+        }
+        for (Employee employee : created) {
+            Employee replaced = employee.id() == null ? null : ids.put(employee.id(), employee);
+            if (replaced != null) {
+                dropped.add(replaced);
+            }
+        }
+        List<Employee> updated = new ArrayList<>(employees.size() + created.size());
+        for (Employee existing : employees) {
+            if (!dropped.contains(existing)) {
+                updated.add(existing);
+            }
+        }
+        updated.addAll(created);
+        SalaryIndex salaries = salaryIndex;
+        NameIndex names = nameIndex;
+        if ((dropped.size() + created.size()) * REINDEX_RATIO > employees.size()) {
+            salaries = SalaryIndex.of(updated);
+            names = NameIndex.of(updated);
+        } else {
+            for (Employee removed : dropped) {
+                salaries = salaries.without(removed);
+                names = names.without(removed);
+            }
+            for (Employee added : created) {
+                salaries = salaries.with(added);
+                names = names.with(added);
+            }
+        }
+        return new EmployeeSnapshot(
+                version + 1,
+                Collections.unmodifiableList(updated),
+                Collections.unmodifiableMap(ids),
+                salaries,
+                names,
+                loadedAt);
+    }
+
+    public EmployeeSnapshot withRemoved(UUID id) {
+        Employee removed = byId.get(id);
+        if (removed == null) {
+            return this;
+        }
+        List<Employee> updated = new ArrayList<>(employees.size());
+        for (Employee existing : employees) {
+            if (existing != removed) {
+                updated.add(existing);
+            }
+        }
+        Map<UUID, Employee> ids = new LinkedHashMap<>(byId);
+        ids.remove(id);
+        return new EmployeeSnapshot(
+                version + 1,
+                Collections.unmodifiableList(updated),
+                Collections.unmodifiableMap(ids),
+                salaryIndex.without(removed),
+                nameIndex.without(removed),
+                loadedAt);
+    }
+}
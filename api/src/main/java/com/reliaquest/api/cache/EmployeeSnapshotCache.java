@@ -0,0 +1,358 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.model.DataFreshness;
+import com.reliaquest.api.model.Employee;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Holds the latest {@link EmployeeSnapshot} and keeps it fresh.
+ *
+ * <p>Reads are served from the current snapshot. Once a snapshot is within {@code refreshAhead} of its TTL a
+ * background reload is started, so request threads only block on the upstream when there is no snapshot at all or the
+ * current one has fully expired. Successful creates and deletes are written through into a new snapshot version.
+ *
+ * <p>A load can be overtaken by a write-through: the list it read may predate a create or delete that is applied to
+ * the current snapshot while the load is still in flight. Writes made while any load is in flight are therefore also
+ * journaled, and each load replays the writes made since it started onto its list before installing it.
+ *
+ * <p>When an expired snapshot cannot be reloaded, typically because the upstream is throttling, the last good snapshot
+ * keeps being served for up to {@code maxStale} past its TTL (stale-while-revalidate). Further reloads are held back
+ * until the upstream's backoff is expected to end and then retried in the background.
+ */
+public class EmployeeSnapshotCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeSnapshotCache.class);
+
+    private final Supplier<List<Employee>> loader;
+
+    private final EmployeeCacheSettings settings;
+
+    private final Clock clock;
+
+    private final AtomicReference<EmployeeSnapshot> current = new AtomicReference<>();
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private final AtomicReference<ScheduledFuture<?>> nextRefresh = new AtomicReference<>();
+
+    /**
+     * Guards {@link #writes}, {@link #writeSequence} and {@link #loadsInFlight}, and orders installs with writes.
+     */
+    private final Object writeLock = new Object();
+
+    private final List<Write> writes = new ArrayList<>();
+
+    private long writeSequence;
+
+    private int loadsInFlight;
+
+    private volatile ScheduledExecutorService scheduler;
+
+    private volatile Instant retryNotBefore = Instant.MIN;
+
+    public EmployeeSnapshotCache(Supplier<List<Employee>> loader, EmployeeCacheSettings settings, Clock clock) {
+        this.loader = loader;
+        this.settings = settings;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns a snapshot that is within its TTL, loading one on the calling thread only when none is usable. If that
+     * load fails, an expired snapshot that is still within {@code maxStale} is returned instead; see
+     * {@link #freshness()}.
+     */
+    public EmployeeSnapshot get() {
+        Optional<EmployeeSnapshot> usable = usable();
+        if (usable.isPresent()) {
+            return usable.get();
+        }
+        try {
+            return refresh();
+        } catch (RuntimeException ex) {
+            return fallback(ex).orElseThrow(() -> ex);
+        }
+    }
+
+    /**
+     * Returns the current snapshot if it can be served without a load: it is within its TTL, or it is within
+     * {@code maxStale} and the upstream's backoff has not ended yet. Starts a background refresh when the snapshot is
+     * within {@code refreshAhead} of expiry. Callers that load asynchronously use this with {@link #beginLoad()} and
+     * {@link #fallback(RuntimeException)} in place of {@link #get()}.
+     */
+    public Optional<EmployeeSnapshot> usable() {
+        EmployeeSnapshot snapshot = current.get();
+        if (snapshot == null) {
+            return Optional.empty();
+        }
+        Instant now = clock.instant();
+        Duration age = snapshot.ageAt(now);
+        if (age.compareTo(settings.ttl()) < 0) {
+            if (age.compareTo(settings.refreshDelay()) >= 0) {
+                refreshInBackground();
+            }
+            return Optional.of(snapshot);
+        }
+        if (isServableStale(age) && now.isBefore(retryNotBefore)) {
+            return Optional.of(snapshot);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Age of the current snapshot and whether it is being served past its TTL.
+     */
+    public Optional<DataFreshness> freshness() {
+        return peek().map(snapshot -> {
+            Duration age = snapshot.ageAt(clock.instant());
+            return new DataFreshness(age, age.compareTo(settings.ttl()) >= 0);
+        });
+    }
+
+    /**
+     * Returns the current snapshot, if any, without triggering a load.
+     */
+    public Optional<EmployeeSnapshot> peek() {
+        return Optional.ofNullable(current.get());
+    }
+
+    /**
+     * Loads the full list from the upstream and installs it as the next snapshot version.
+     */
+    public EmployeeSnapshot refresh() {
+        try (Load load = beginLoad()) {
+            return load.install(loader.get());
+        }
+    }
+
+    /**
+     * Handles a failed load: if the current snapshot is still within {@code maxStale} it is returned for serving, and
+     * further loads are held back until the upstream's backoff is expected to end.
+     */
+    public Optional<EmployeeSnapshot> fallback(RuntimeException failure) {
+        EmployeeSnapshot stale = current.get();
+        if (stale == null) {
+            return Optional.empty();
+        }
+        Instant now = clock.instant();
+        Duration age = stale.ageAt(now);
+        if (!isServableStale(age)) {
+            return Optional.empty();
+        }
+        Duration backoff = backoffAfter(failure);
+        retryNotBefore = now.plus(backoff);
+        scheduleRefresh(backoff);
+        logger.warn("Serving employee snapshot v{} {} past its TTL: {}", stale.version(), age, failure.getMessage());
+        return Optional.of(stale);
+    }
+
+    private boolean isServableStale(Duration age) {
+        return age.compareTo(settings.ttl().plus(settings.maxStale())) < 0;
+    }
+
+    private Duration backoffAfter(RuntimeException failure) {
+        if (failure instanceof TooManyRequestsException throttled) {
+            return throttled.getRetryAfter().orElse(settings.refreshAhead());
+        }
+        return settings.refreshAhead();
+    }
+
+    public void onCreated(Employee employee) {
+        write(employee, null);
+    }
+
+    public void onDeleted(UUID id) {
+        write(null, id);
+    }
+
+    private void write(Employee created, UUID deletedId) {
+        synchronized (writeLock) {
+            Write write = new Write(++writeSequence, created, deletedId);
+            if (loadsInFlight > 0) {
+                writes.add(write);
+            }
+            current.updateAndGet(snapshot -> snapshot == null ? null : write.applyTo(snapshot));
+        }
+    }
+
+    /**
+     * Starts a full load. Writes made while it is open are journaled and replayed onto the list it installs; close it
+     * when the load fails or is cancelled.
+     */
+    public Load beginLoad() {
+        synchronized (writeLock) {
+            loadsInFlight++;
+            return new Load(writeSequence);
+        }
+    }
+
+    /**
+     * A full load in progress, started by {@link #beginLoad()}.
+     */
+    public final class Load implements AutoCloseable {
+
+        private final long startedAt;
+
+        private boolean ended;
+
+        private Load(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        /**
+         * Installs the loaded list as the next version, with the writes made since the load started replayed onto it.
+         * Replaying is idempotent, so it does no harm when the upstream list already reflects a write. Handing back the
+         * very list the current snapshot holds, as a loader does when the upstream reports it unchanged, only renews
+         * that snapshot's load time.
+         */
+        public EmployeeSnapshot install(List<Employee> employees) {
+            Instant now = clock.instant();
+            EmployeeSnapshot installed;
+            synchronized (writeLock) {
+                if (ended) {
+                    throw new IllegalStateException("Load already ended");
+                }
+                installed = current.updateAndGet(previous -> {
+                    if (previous != null && previous.employees() == employees) {
+                        return previous.reloadedAt(now);
+                    }
+                    EmployeeSnapshot loaded =
+                            EmployeeSnapshot.of(previous == null ? 1 : previous.version() + 1, employees, now);
+                    for (Write write : writes) {
+                        if (write.sequence() > startedAt) {
+                            loaded = write.applyTo(loaded);
+                        }
+                    }
+                    return loaded;
+                });
+                end();
+            }
+            logger.debug("Installed employee snapshot v{} with {} employees", installed.version(), employees.size());
+            scheduleRefresh(settings.refreshDelay());
+            return installed;
+        }
+
+        /**
+         * Ends the load without installing anything; a no-op once it has been installed.
+         */
+        @Override
+        public void close() {
+            synchronized (writeLock) {
+                if (!ended) {
+                    end();
+                }
+            }
+        }
+
+        private void end() {
+            ended = true;
+            if (--loadsInFlight == 0) {
+                writes.clear();
+            }
+        }
+    }
+
+    /**
+     * Applies changes made upstream to the current snapshot as one new version. Returns the updated snapshot, or empty
+     * when there is none to apply them to. Installing its list afterwards only renews its load time.
+     */
+    public Optional<EmployeeSnapshot> onChanged(Collection<Employee> created, Collection<UUID> deleted) {
+        return Optional.ofNullable(
+                current.updateAndGet(snapshot -> snapshot == null ? null : snapshot.withChanges(created, deleted)));
+    }
+
+    /**
+     * Starts the background refresher and, if configured, warms the cache without blocking the caller.
+     */
+    public void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "employee-snapshot-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (settings.warmUp()) {
+            refreshInBackground();
+        }
+    }
+
+    public void stop() {
+        ScheduledExecutorService executor = scheduler;
+        scheduler = null;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Loads a new snapshot on the refresher thread unless one is already loading. Does nothing before {@link #start()}.
+     */
+    public void refreshInBackground() {
+        ScheduledExecutorService executor = scheduler;
+        if (executor == null || !refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    refresh();
+                } catch (RuntimeException ex) {
+                    logger.warn("Background refresh of employee snapshot failed: {}", ex.getMessage());
+                    Duration backoff = backoffAfter(ex);
+                    retryNotBefore = clock.instant().plus(backoff);
+                    scheduleRefresh(backoff);
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            refreshing.set(false);
+        }
+    }
+
+    /**
+     * A write-through create ({@code created}) or delete ({@code deletedId}), numbered in the order it was applied.
+     */
+    private record Write(long sequence, Employee created, UUID deletedId) {
+
+        EmployeeSnapshot applyTo(EmployeeSnapshot snapshot) {
+            return created != null ? snapshot.withAdded(created) : snapshot.withRemoved(deletedId);
+        }
+    }
+
+    private void scheduleRefresh(Duration delay) {
+        ScheduledExecutorService executor = scheduler;
+        if (executor == null || executor.isShutdown()) {
+            return;
+        }
+        try {
+            ScheduledFuture<?> scheduled =
+                    executor.schedule(this::refreshInBackground, delay.toMillis(), TimeUnit.MILLISECONDS);
+            ScheduledFuture<?> previous = nextRefresh.getAndSet(scheduled);
+            if (previous != null) {
+                previous.cancel(false);
+            }
+        } catch (RejectedExecutionException ex) {
+            logger.debug("Employee snapshot refresher is stopped; not scheduling another refresh");
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable trigram inverted index over case-folded employee names, answering case-insensitive substring queries.
+ *
+ * <p>Names and queries are folded with {@link Locale#ROOT} so results do not depend on the server's default locale.
+ * A query of at least three characters only verifies the employees in its shortest posting list; shorter queries scan
+ * the pre-folded names. Whole-name lookups, used for the duplicate check before a delete, share the same candidate
+ * selection.
+ *
+ * <p>Adding or removing an employee rebuilds only the posting lists of that employee's trigrams, but still copies the
+ * entry array and the posting map itself: a write costs O(employees + distinct trigrams) reference copies, with no
+ * name refolded and no other posting list touched. That is cheap next to a full rebuild at this data size.
+ */
+public final class NameIndex {
+
+    static final int GRAM_LENGTH = 3;
+
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    private final Entry[] entries;
+
+    private final Map<String, Entry[]> postings;
+
+    private NameIndex(Entry[] entries, Map<String, Entry[]> postings) {
+        this.entries = entries;
+        this.postings = postings;
+    }
+
+    public static NameIndex of(Collection<Employee> employees) {
+        Entry[] entries = new Entry[employees.size()];
+        Map<String, List<Entry>> lists = new HashMap<>();
+        int i = 0;
+        for (Employee employee : employees) {
+            Entry entry = new Entry(employee, fold(employee.name()));
+            entries[i++] = entry;
+            for (String gram : grams(entry.foldedName())) {
+                lists.computeIfAbsent(gram, ignored -> new ArrayList<>()).add(entry);
+            }
+        }
+        Map<String, Entry[]> postings = new HashMap<>(lists.size() * 4 / 3 + 1);
+        lists.forEach((gram, list) -> postings.put(gram, list.toArray(NO_ENTRIES)));
+        return new NameIndex(entries, postings);
+    }
+
+    public static String fold(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Employees whose name contains {@code query}, ignoring case, in snapshot order.
+     */
+    public List<Employee> search(String query) {
+        String folded = fold(query);
+        List<Employee> matches = new ArrayList<>();
+        for (Entry candidate : candidates(folded)) {
+            if (candidate.foldedName().contains(folded)) {
+                matches.add(candidate.employee());
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Employees whose whole name equals {@code name}, ignoring case, in snapshot order.
+     */
+    public List<Employee> findByName(String name) {
+        String folded = fold(name);
+        List<Employee> matches = new ArrayList<>();
+        for (Entry candidate : candidates(folded)) {
+            if (candidate.foldedName().equals(folded)) {
+                matches.add(candidate.employee());
+            }
+        }
+        return matches;
+    }
+
+    public NameIndex with(Employee employee) {
+        Entry entry = new Entry(employee, fold(employee.name()));
+        Entry[] updatedEntries = Arrays.copyOf(entries, entries.length + 1);
+        updatedEntries[entries.length] = entry;
+        Map<String, Entry[]> updatedPostings = new HashMap<>(postings);
+        for (String gram : grams(entry.foldedName())) {
+            Entry[] posting = updatedPostings.getOrDefault(gram, NO_ENTRIES);
+            Entry[] appended = Arrays.copyOf(posting, posting.length + 1);
+            appended[posting.length] = entry;
+            updatedPostings.put(gram, appended);
+        }
+        return new NameIndex(updatedEntries, updatedPostings);
+    }
+
+    public NameIndex without(Employee employee) {
+        Entry[] updatedEntries = remove(entries, employee);
+        if (updatedEntries == entries) {
+            return this;
+        }
+        Map<String, Entry[]> updatedPostings = new HashMap<>(postings);
+        for (String gram : grams(fold(employee.name()))) {
+            Entry[] posting = updatedPostings.get(gram);
+            if (posting == null) {
+                continue;
+            }
+            Entry[] remaining = remove(posting, employee);
+            if (remaining.length == 0) {
+                updatedPostings.remove(gram);
+            } else {
+                updatedPostings.put(gram, remaining);
+            }
+        }
+        return new NameIndex(updatedEntries, updatedPostings);
+    }
+
+    /**
+     * Entries that may contain {@code folded}: the shortest posting list among its trigrams, or every entry when the
+     * query is too short to have any.
+     */
+    private Entry[] candidates(String folded) {
+        if (folded.length() < GRAM_LENGTH) {
+            return entries;
+        }
+        Entry[] candidates = null;
+        for (String gram : grams(folded)) {
+            Entry[] posting = postings.get(gram);
+            if (posting == null) {
+                return NO_ENTRIES;
+            }
+            if (candidates == null || posting.length < candidates.length) {
+                candidates = posting;
+            }
+        }
+        return candidates;
+    }
+
+    private static Entry[] remove(Entry[] from, Employee employee) {
+        for (int i = 0; i < from.length; i++) {
+            if (from[i].employee() == employee) {
+                Entry[] remaining = new Entry[from.length - 1];
+                System.arraycopy(from, 0, remaining, 0, i);
+                System.arraycopy(from, i + 1, remaining, i, from.length - i - 1);
+                return remaining;
+            }
+        }
+        return from;
+    }
+
+    private static Set<String> grams(String folded) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= folded.length(); i++) {
+            grams.add(folded.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private record Entry(Employee employee, String foldedName) {}
+}
@@ -0,0 +1,79 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable salary-ordered index over a snapshot's employees.
+ *
+ * <p>Employees are ordered by salary descending; ties are broken by name ascending (case-sensitive, {@code null} names
+ * last) and then by id ascending, so top-K results are deterministic for a given data set. The highest salary and the
+ * top K are answered in O(K). Adding or removing one employee locates its slot by binary search and shifts the array
+ * once instead of re-sorting.
+ */
+public final class SalaryIndex {
+
+    public static final Comparator<Employee> ORDER = Comparator.comparingInt(Employee::salary)
+            .reversed()
+            .thenComparing(Employee::name, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Employee::id, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private static final SalaryIndex EMPTY = new SalaryIndex(new Employee[0]);
+
+    private final Employee[] ordered;
+
+    private SalaryIndex(Employee[] ordered) {
+        this.ordered = ordered;
+    }
+
+    public static SalaryIndex of(Collection<Employee> employees) {
+        if (employees.isEmpty()) {
+            return EMPTY;
+        }
+        Employee[] ordered = employees.toArray(new Employee[0]);
+        Arrays.sort(ordered, ORDER);
+        return new SalaryIndex(ordered);
+    }
+
+    public int size() {
+        return ordered.length;
+    }
+
+    /**
+     * Highest salary in the index, or 0 when it is empty.
+     */
+    public int highestSalary() {
+        return ordered.length == 0 ? 0 : ordered[0].salary();
+    }
+
+    public List<Employee> top(int k) {
+        return List.of(Arrays.copyOf(ordered, Math.min(Math.max(k, 0), ordered.length)));
+    }
+
+    public SalaryIndex with(Employee employee) {
+        int position = Arrays.binarySearch(ordered, employee, ORDER);
+        if (position >= 0) {
+            return this;
+        }
+        int insertAt = -position - 1;
+        Employee[] updated = new Employee[ordered.length + 1];
+        System.arraycopy(ordered, 0, updated, 0, insertAt);
+        updated[insertAt] = employee;
+        System.arraycopy(ordered, insertAt, updated, insertAt + 1, ordered.length - insertAt);
+        return new SalaryIndex(updated);
+    }
+
+    public SalaryIndex without(Employee employee) {
+        int position = Arrays.binarySearch(ordered, employee, ORDER);
+        if (position < 0) {
+            return this;
+        }
+        Employee[] updated = new Employee[ordered.length - 1];
+        System.arraycopy(ordered, 0, updated, 0, position);
+        System.arraycopy(ordered, position + 1, updated, position, ordered.length - position - 1);
+        return new SalaryIndex(updated);
+    }
+}
@@ -0,0 +1,108 @@
+package com.reliaquest.api.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key into one execution. The first caller for a key runs the call; callers
+ * arriving while it is in flight wait for and share its result or exception.
+ *
+ * @param <K> key identifying the upstream call
+ * @param <V> result of the call
+ */
+public class SingleFlight<K, V> {
+
+    private final String name;
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder executions = new LongAdder();
+
+    private final LongAdder coalesced = new LongAdder();
+
+    public SingleFlight(String name) {
+        this.name = name;
+    }
+
+    public V execute(K key, Supplier<V> call) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+        executions.increment();
+        try {
+            V value = call.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            mine.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * Asynchronous variant of {@link #execute(Object, Supplier)} for non-blocking callers. Each caller gets its own
+     * copy of the shared future, so cancelling it does not affect the other callers.
+     */
+    public CompletableFuture<V> executeAsync(K key, Supplier<? extends CompletionStage<V>> call) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.increment();
+            return existing.copy();
+        }
+        executions.increment();
+        try {
+            call.get().whenComplete((value, error) -> {
+                inFlight.remove(key, mine);
+                if (error != null) {
+                    mine.completeExceptionally(error instanceof CompletionException ? error.getCause() : error);
+                } else {
+                    mine.complete(value);
+                }
+            });
+        } catch (RuntimeException ex) {
+            inFlight.remove(key, mine);
+            mine.completeExceptionally(ex);
+        }
+        return mine.copy();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public Stats stats() {
+        return new Stats(name, executions.sum(), coalesced.sum(), inFlight.size());
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * @param name name of the coalesced call, used as a metric tag
+     * @param executions calls that actually went to the upstream
+     * @param coalesced calls that were answered by sharing another caller's in-flight execution
+     * @param inFlight keys currently being executed
+     */
+    public record Stats(String name, long executions, long coalesced, int inFlight) {}
+}
@@ -0,0 +1,207 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.LocalRateLimitException;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Client-side limiter in front of the employee upstream that learns the upstream's request budget from its responses.
+ *
+ * <p>The mock server allows a fixed number of requests and then answers 429 until a backoff period has passed since
+ * the last request it accepted. This limiter models that as a bucket of {@code permits} that refills all at once,
+ * {@code window} after the last granted request. A 429 with accepted requests earlier in the window sets the permits to
+ * that count; a 429 on the first request after a refill means the window is too short, so it grows by half. A window
+ * that was used up without a 429 earns one more permit for the next one. Callers that would have to wait longer than
+ * {@code maxWait} for a permit are rejected with {@link LocalRateLimitException} without going to the upstream.
+ */
+public class AdaptiveRateLimiter implements ClientHttpRequestInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveRateLimiter.class);
+
+    private final RateLimiterSettings settings;
+
+    private final String rejectionMessage;
+
+    private final Clock clock;
+
+    private final LongAdder localRejections = new LongAdder();
+
+    private final LongAdder pacedRequests = new LongAdder();
+
+    private final LongAdder upstreamThrottles = new LongAdder();
+
+    private int permits;
+
+    private Duration window;
+
+    private int used;
+
+    private Instant lastGrantedAt;
+
+    private Instant lastAcceptedAt;
+
+    private int acceptedInWindow;
+
+    private boolean throttledInWindow;
+
+    public AdaptiveRateLimiter(RateLimiterSettings settings, String rejectionMessage, Clock clock) {
+        this.settings = settings;
+        this.rejectionMessage = rejectionMessage;
+        this.clock = clock;
+        this.permits = settings.initialPermits();
+        this.window = settings.initialWindow();
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        if (!settings.enabled()) {
+            return execution.execute(request, body);
+        }
+        acquire();
+        ClientHttpResponse response = execution.execute(request, body);
+        if (response.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+            onThrottled();
+        } else {
+            onAccepted();
+        }
+        return response;
+    }
+
+    /**
+     * Takes a permit, sleeping for at most {@code maxWait} until the window refills.
+     *
+     * @throws LocalRateLimitException if no permit becomes available within {@code maxWait}
+     */
+    void acquire() {
+        Duration wait = tryAcquire();
+        while (!wait.isZero()) {
+            sleep(wait);
+            wait = tryAcquire();
+        }
+    }
+
+    /**
+     * Takes a permit if one is available now and returns zero; otherwise returns how long to wait before trying again.
+     * Non-blocking callers use this to delay instead of sleeping.
+     *
+     * @throws LocalRateLimitException if the wait would be longer than {@code maxWait}
+     */
+    synchronized Duration tryAcquire() {
+        Instant now = clock.instant();
+        if (used < permits) {
+            used++;
+            lastGrantedAt = now;
+            return Duration.ZERO;
+        }
+        Instant refillAt = lastGrantedAt.plus(window);
+        if (!now.isBefore(refillAt)) {
+            startWindow();
+            used = 1;
+            lastGrantedAt = now;
+            return Duration.ZERO;
+        }
+        Duration wait = Duration.between(now, refillAt);
+        if (wait.compareTo(settings.maxWait()) > 0) {
+            localRejections.increment();
+            throw new LocalRateLimitException(rejectionMessage, wait);
+        }
+        pacedRequests.increment();
+        return wait;
+    }
+
+    public boolean isEnabled() {
+        return settings.enabled();
+    }
+
+    synchronized void onAccepted() {
+        acceptedInWindow++;
+        lastAcceptedAt = clock.instant();
+    }
+
+    synchronized void onThrottled() {
+        upstreamThrottles.increment();
+        if (throttledInWindow) {
+            return;
+        }
+        throttledInWindow = true;
+        if (acceptedInWindow == 0) {
+            window = min(settings.maxWindow(), window.plus(window.dividedBy(2)));
+        } else {
+            permits = Math.max(1, acceptedInWindow);
+        }
+        used = permits;
+        lastGrantedAt = lastAcceptedAt != null ? lastAcceptedAt : clock.instant();
+        logger.debug("Upstream throttled; now assuming {} requests per {} window", permits, window);
+    }
+
+    /**
+     * How long until a permit is expected to be available; zero if one is available now.
+     */
+    public synchronized Duration timeUntilPermit() {
+        if (used < permits) {
+            return Duration.ZERO;
+        }
+        Duration wait = Duration.between(clock.instant(), lastGrantedAt.plus(window));
+        return wait.isNegative() ? Duration.ZERO : wait;
+    }
+
+    public synchronized Stats stats() {
+        int available;
+        if (used < permits) {
+            available = permits - used;
+        } else {
+            available = clock.instant().isBefore(lastGrantedAt.plus(window)) ? 0 : permits;
+        }
+        return new Stats(
+                permits, available, window, localRejections.sum(), pacedRequests.sum(), upstreamThrottles.sum());
+    }
+
+    private void startWindow() {
+        if (!throttledInWindow && acceptedInWindow >= permits && permits < settings.maxPermits()) {
+            permits++;
+        }
+        acceptedInWindow = 0;
+        throttledInWindow = false;
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private static void sleep(Duration wait) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(wait.toNanos());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an upstream permit", ex);
+        }
+    }
+
+    /**
+     * @param estimatedPermits learned number of requests the upstream accepts per window
+     * @param availablePermits requests that can be sent right now without waiting
+     * @param estimatedWindow learned cooldown after the permits are used up
+     * @param localRejections requests rejected locally instead of being sent
+     * @param pacedRequests requests that waited for the window to refill
+     * @param upstreamThrottles 429 responses received from the upstream
+     */
+    public record Stats(
+            int estimatedPermits,
+            int availablePermits,
+            Duration estimatedWindow,
+            long localRejections,
+            long pacedRequests,
+            long upstreamThrottles) {}
+}
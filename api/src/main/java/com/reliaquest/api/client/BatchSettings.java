@@ -0,0 +1,16 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+
+/**
+ * Tuning knobs for a {@link MicroBatcher}.
+ *
+ * @param maxBatchSize items per batch call; {@code 1} sends every item on its own
+ * @param linger how long the first item of a batch waits for company before the batch is sent anyway
+ */
+public record BatchSettings(int maxBatchSize, Duration linger) {
+
+    public static BatchSettings defaults() {
+        return new BatchSettings(50, Duration.ofMillis(10));
+    }
+}
@@ -0,0 +1,13 @@
+package com.reliaquest.api.client;
+
+/**
+ * How the full employee list is read from the upstream.
+ */
+public enum EmployeeFetchMode {
+    /** One request; the whole list arrives as a single JSON array. */
+    FULL,
+    /** Cursor-paginated requests of {@link EmployeeFetchSettings#pageSize()} employees each. */
+    PAGED,
+    /** One request; employees are decoded one by one from an {@code application/x-ndjson} stream. */
+    STREAM
+}
@@ -0,0 +1,14 @@
+package com.reliaquest.api.client;
+
+/**
+ * How {@link com.reliaquest.api.service.EmployeeServiceImpl} loads the full employee list.
+ *
+ * @param mode single response, pages, or stream
+ * @param pageSize employees per request in {@link EmployeeFetchMode#PAGED} mode
+ */
+public record EmployeeFetchSettings(EmployeeFetchMode mode, int pageSize) {
+
+    public static EmployeeFetchSettings defaults() {
+        return new EmployeeFetchSettings(EmployeeFetchMode.FULL, 500);
+    }
+}
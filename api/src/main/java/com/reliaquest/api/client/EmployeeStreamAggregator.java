@@ -0,0 +1,110 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.reliaquest.api.model.SalaryAggregate;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+/**
+ * Folds an upstream {@code {"data": [employee, ...]}} payload into a {@link SalaryAggregate} token by token, without
+ * binding the list.
+ *
+ * <p>Only {@code id}, {@code employee_name} and {@code employee_salary} are read; every other field is skipped. The top
+ * earners are kept in a bounded heap, so peak memory is O(K) however many employees the payload holds. Ties are broken
+ * as in {@link com.reliaquest.api.cache.SalaryIndex#ORDER}: salary descending, then name, then id.
+ */
+public final class EmployeeStreamAggregator {
+
+    private static final String DATA_FIELD = "data";
+
+    private static final String ID_FIELD = "id";
+
+    private static final String NAME_FIELD = "employee_name";
+
+    private static final String SALARY_FIELD = "employee_salary";
+
+    private static final Comparator<Earner> ORDER = Comparator.comparingInt(Earner::salary)
+            .reversed()
+            .thenComparing(Earner::name, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Earner::id, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private EmployeeStreamAggregator() {}
+
+    public static SalaryAggregate aggregate(JsonParser parser, int topEarnersLimit) throws IOException {
+        // Head of the heap is the weakest earner kept so far.
+        PriorityQueue<Earner> top = new PriorityQueue<>(Math.max(1, topEarnersLimit), ORDER.reversed());
+        int highestSalary = 0;
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an upstream response object");
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (!DATA_FIELD.equals(field) || value != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                Earner earner = readEarner(parser);
+                highestSalary = Math.max(highestSalary, earner.salary());
+                offer(top, earner, topEarnersLimit);
+            }
+        }
+        List<Earner> ordered = new ArrayList<>(top);
+        ordered.sort(ORDER);
+        return new SalaryAggregate(
+                highestSalary, ordered.stream().map(Earner::name).toList());
+    }
+
+    private static Earner readEarner(JsonParser parser) throws IOException {
+        UUID id = null;
+        String name = null;
+        int salary = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case ID_FIELD -> id = readId(parser);
+                case NAME_FIELD -> name = parser.getValueAsString();
+                case SALARY_FIELD -> salary = parser.getValueAsInt();
+                default -> parser.skipChildren();
+            }
+        }
+        return new Earner(salary, name, id);
+    }
+
+    /**
+     * Parsed here, once per employee, because the heap compares ids on every tie.
+     */
+    private static UUID readId(JsonParser parser) throws IOException {
+        String id = parser.getValueAsString();
+        if (id == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException ex) {
+            throw new JsonParseException(parser, "Invalid employee id: " + id, ex);
+        }
+    }
+
+    private static void offer(PriorityQueue<Earner> top, Earner earner, int limit) {
+        if (limit <= 0) {
+            return;
+        }
+        if (top.size() < limit) {
+            top.add(earner);
+        } else if (ORDER.compare(earner, top.peek()) < 0) {
+            top.poll();
+            top.add(earner);
+        }
+    }
+
+    private record Earner(int salary, String name, UUID id) {}
+}
@@ -0,0 +1,24 @@
+package com.reliaquest.api.client;
+
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.MediaType;
+
+/**
+ * Encoding the employee client asks the upstream for through {@code Accept}.
+ */
+public enum EmployeeWireFormat {
+    /** Plain JSON text. */
+    JSON,
+    /** Binary Smile, with JSON as the fallback for an upstream that cannot produce it. */
+    SMILE;
+
+    public static final MediaType SMILE_MEDIA_TYPE = new MediaType("application", "x-jackson-smile");
+
+    public List<MediaType> accept() {
+        return switch (this) {
+            case JSON -> List.of(MediaType.APPLICATION_JSON);
+            case SMILE -> List.of(SMILE_MEDIA_TYPE, new MediaType(MediaType.APPLICATION_JSON, Map.of("q", "0.9")));
+        };
+    }
+}
@@ -0,0 +1,23 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+
+/**
+ * Transport behind {@code employeeRestClient}.
+ *
+ * @param maxConnections pooled connections across all routes
+ * @param maxConnectionsPerRoute pooled connections to one host and port
+ * @param connectTimeout how long establishing a TCP connection may take
+ * @param readTimeout how long to wait for response data before failing the call
+ * @param poolAcquireTimeout how long a request may wait for a free pooled connection
+ * @param maxIdleTime idle pooled connections older than this are closed
+ * @param timeToLive pooled connections are never reused past this age
+ */
+public record HttpTransportSettings(
+        int maxConnections,
+        int maxConnectionsPerRoute,
+        Duration connectTimeout,
+        Duration readTimeout,
+        Duration poolAcquireTimeout,
+        Duration maxIdleTime,
+        Duration timeToLive) {}
@@ -0,0 +1,110 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.Timeout;
+
+/**
+ * Pooling connection manager that times how long each request waits to lease a connection, so pool exhaustion shows
+ * up as wait time rather than only as latency further up.
+ */
+public class MeteredConnectionManager extends PoolingHttpClientConnectionManager {
+
+    private final LongAdder leases = new LongAdder();
+
+    private final LongAdder leaseTimeouts = new LongAdder();
+
+    private final LongAdder totalWaitNanos = new LongAdder();
+
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+    @Override
+    public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+        return new TimedLeaseRequest(super.lease(id, route, requestTimeout, state));
+    }
+
+    public Stats stats() {
+        PoolStats pool = getTotalStats();
+        long count = leases.sum();
+        Duration meanWait = Duration.ofNanos(count == 0 ? 0 : totalWaitNanos.sum() / count);
+        return new Stats(
+                pool.getLeased(),
+                pool.getPending(),
+                pool.getAvailable(),
+                pool.getMax(),
+                count,
+                leaseTimeouts.sum(),
+                meanWait,
+                Duration.ofNanos(maxWaitNanos.get()));
+    }
+
+    private void recordWait(long nanos) {
+        leases.increment();
+        totalWaitNanos.add(nanos);
+        maxWaitNanos.accumulate(nanos);
+    }
+
+    private final class TimedLeaseRequest implements LeaseRequest {
+
+        private final LeaseRequest delegate;
+
+        private TimedLeaseRequest(LeaseRequest delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public ConnectionEndpoint get(Timeout timeout)
+                throws InterruptedException, ExecutionException, TimeoutException {
+            long start = System.nanoTime();
+            try {
+                return delegate.get(timeout);
+            } catch (TimeoutException ex) {
+                leaseTimeouts.increment();
+                throw ex;
+            } finally {
+                recordWait(System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public boolean cancel() {
+            return delegate.cancel();
+        }
+    }
+
+    /**
+     * @param leased connections currently handed out
+     * @param pending requests waiting for a connection
+     * @param available idle connections ready for reuse
+     * @param max pool capacity across all routes
+     * @param leases connection leases since startup
+     * @param leaseTimeouts leases that gave up waiting for a connection
+     * @param meanWait mean time a lease waited for its connection
+     * @param maxWait longest time a lease waited for its connection since startup
+     */
+    public record Stats(
+            int leased,
+            int pending,
+            int available,
+            int max,
+            long leases,
+            long leaseTimeouts,
+            Duration meanWait,
+            Duration maxWait) {
+
+        /**
+         * Share of the pool's capacity currently leased, from 0 to 1.
+         */
+        public double utilization() {
+            return max == 0 ? 0 : (double) leased / max;
+        }
+    }
+}
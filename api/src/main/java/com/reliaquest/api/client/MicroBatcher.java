@@ -0,0 +1,189 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Collects items submitted concurrently into batches and runs one batch call for each. A batch is sent when it
+ * reaches {@code maxBatchSize} items, on the submitting thread, or {@code linger} after its first item arrived,
+ * whichever comes first. The timer thread only tracks linger deadlines; batches it releases are sent from the
+ * batcher's flush pool, so a slow batch call holds up neither other batches nor later deadlines.
+ *
+ * <p>The batch call must return exactly one result per item, in order. Each caller gets its own item's result; if the
+ * batch call throws, every caller in that batch gets the exception.
+ *
+ * @param <I> item submitted by a caller
+ * @param <O> per-item result of the batch call
+ */
+public class MicroBatcher<I, O> implements AutoCloseable {
+
+    private final String name;
+
+    private final int maxBatchSize;
+
+    private final Duration linger;
+
+    private final Function<List<I>, List<O>> batchCall;
+
+    private final ScheduledExecutorService timer;
+
+    private final ExecutorService flushPool;
+
+    private final Object lock = new Object();
+
+    private List<Pending<I, O>> pending = new ArrayList<>();
+
+    private ScheduledFuture<?> lingerTimeout;
+
+    private final LongAdder batches = new LongAdder();
+
+    private final LongAdder items = new LongAdder();
+
+    public MicroBatcher(String name, int maxBatchSize, Duration linger, Function<List<I>, List<O>> batchCall) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+        }
+        this.name = name;
+        this.maxBatchSize = maxBatchSize;
+        this.linger = linger;
+        this.batchCall = batchCall;
+        this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> daemon(runnable, name + "-batcher"));
+        this.flushPool = Executors.newCachedThreadPool(runnable -> daemon(runnable, name + "-flush"));
+    }
+
+    /**
+     * Submits {@code item} and blocks until its batch has completed.
+     */
+    public O execute(I item) {
+        try {
+            return submit(item).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+
+    public CompletableFuture<O> submit(I item) {
+        Pending<I, O> entry = new Pending<>(item, new CompletableFuture<>());
+        List<Pending<I, O>> ready = null;
+        synchronized (lock) {
+            pending.add(entry);
+            if (pending.size() >= maxBatchSize) {
+                ready = drain();
+            } else if (pending.size() == 1) {
+                try {
+                    lingerTimeout = timer.schedule(this::flushLingering, linger.toNanos(), TimeUnit.NANOSECONDS);
+                } catch (RejectedExecutionException ex) {
+                    ready = drain();
+                }
+            }
+        }
+        if (ready != null) {
+            dispatch(ready);
+        }
+        return entry.result();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public Stats stats() {
+        int waiting;
+        synchronized (lock) {
+            waiting = pending.size();
+        }
+        return new Stats(name, batches.sum(), items.sum(), waiting);
+    }
+
+    /**
+     * Stops the timer and sends whatever is still waiting on the calling thread. Batches already handed to the flush
+     * pool still complete.
+     */
+    @Override
+    public void close() {
+        timer.shutdownNow();
+        flushPool.shutdown();
+        List<Pending<I, O>> ready;
+        synchronized (lock) {
+            ready = drain();
+        }
+        if (!ready.isEmpty()) {
+            dispatch(ready);
+        }
+    }
+
+    private void flushLingering() {
+        List<Pending<I, O>> ready;
+        synchronized (lock) {
+            ready = drain();
+        }
+        if (ready.isEmpty()) {
+            return;
+        }
+        try {
+            flushPool.execute(() -> dispatch(ready));
+        } catch (RejectedExecutionException ex) {
+            dispatch(ready);
+        }
+    }
+
+    private List<Pending<I, O>> drain() {
+        List<Pending<I, O>> ready = pending;
+        pending = new ArrayList<>();
+        if (lingerTimeout != null) {
+            lingerTimeout.cancel(false);
+            lingerTimeout = null;
+        }
+        return ready;
+    }
+
+    private void dispatch(List<Pending<I, O>> batch) {
+        batches.increment();
+        items.add(batch.size());
+        try {
+            List<O> results = batchCall.apply(batch.stream().map(Pending::item).toList());
+            if (results == null || results.size() != batch.size()) {
+                throw new IllegalStateException("Batch call %s returned %s results for %d items"
+                        .formatted(name, results == null ? "no" : results.size(), batch.size()));
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(results.get(i));
+            }
+        } catch (RuntimeException | Error ex) {
+            batch.forEach(entry -> entry.result().completeExceptionally(ex));
+        }
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private record Pending<I, O>(I item, CompletableFuture<O> result) {}
+
+    /**
+     * @param name name of the batched call, used as a metric tag
+     * @param batches batch calls made so far
+     * @param items items sent across all batches; {@code items / batches} is the mean batch size
+     * @param pending items waiting for their batch to be sent
+     */
+    public record Stats(String name, long batches, long items, int pending) {}
+}
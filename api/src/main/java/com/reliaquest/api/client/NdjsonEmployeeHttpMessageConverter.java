@@ -0,0 +1,65 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+/**
+ * Reads an {@code application/x-ndjson} employee stream into {@code Employee[]}, decoding each line as it arrives
+ * rather than buffering the body first. Read-only: {@link #canWrite} is always false, so the client never picks it to
+ * write a request body.
+ */
+public class NdjsonEmployeeHttpMessageConverter implements HttpMessageConverter<Employee[]> {
+
+    private static final List<MediaType> SUPPORTED_MEDIA_TYPES = List.of(MediaType.APPLICATION_NDJSON);
+
+    private final ObjectReader employeeReader;
+
+    public NdjsonEmployeeHttpMessageConverter(ObjectMapper objectMapper) {
+        this.employeeReader = objectMapper.readerFor(Employee.class);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return Employee[].class == clazz && (mediaType == null || MediaType.APPLICATION_NDJSON.includes(mediaType));
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes() {
+        return SUPPORTED_MEDIA_TYPES;
+    }
+
+    @Override
+    public Employee[] read(Class<? extends Employee[]> clazz, HttpInputMessage inputMessage) throws IOException {
+        List<Employee> employees = new ArrayList<>();
+        try (MappingIterator<Employee> iterator = employeeReader.readValues(inputMessage.getBody())) {
+            while (iterator.hasNextValue()) {
+                employees.add(iterator.nextValue());
+            }
+        } catch (IOException ex) {
+            throw new HttpMessageNotReadableException(
+                    "Could not read employee stream: " + ex.getMessage(), ex, inputMessage);
+        }
+        return employees.toArray(Employee[]::new);
+    }
+
+    @Override
+    public void write(Employee[] employees, MediaType contentType, HttpOutputMessage outputMessage) {
+        throw new HttpMessageNotWritableException("Employee streams are read-only");
+    }
+}
@@ -0,0 +1,21 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+
+/**
+ * Starting point and bounds for {@link AdaptiveRateLimiter}.
+ *
+ * @param enabled whether requests are gated at all
+ * @param initialPermits requests allowed per window before anything has been learned
+ * @param maxPermits upper bound for the learned permits per window
+ * @param initialWindow cooldown assumed after the permits are used up, before anything has been learned
+ * @param maxWindow upper bound for the learned cooldown
+ * @param maxWait longest a caller is paced before the request is rejected locally instead
+ */
+public record RateLimiterSettings(
+        boolean enabled,
+        int initialPermits,
+        int maxPermits,
+        Duration initialWindow,
+        Duration maxWindow,
+        Duration maxWait) {}
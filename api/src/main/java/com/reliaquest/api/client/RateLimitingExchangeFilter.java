@@ -0,0 +1,43 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * Applies {@link AdaptiveRateLimiter} to a {@code WebClient}. Pacing is done with {@link Mono#delay(Duration)} rather
+ * than by sleeping, so waiting for a permit never blocks an event-loop thread.
+ */
+public class RateLimitingExchangeFilter implements ExchangeFilterFunction {
+
+    private final AdaptiveRateLimiter limiter;
+
+    public RateLimitingExchangeFilter(AdaptiveRateLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (!limiter.isEnabled()) {
+            return next.exchange(request);
+        }
+        return permit().then(Mono.defer(() -> next.exchange(request))).doOnNext(response -> {
+            if (response.statusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+                limiter.onThrottled();
+            } else {
+                limiter.onAccepted();
+            }
+        });
+    }
+
+    private Mono<Void> permit() {
+        return Mono.defer(() -> {
+            Duration wait = limiter.tryAcquire();
+            return wait.isZero() ? Mono.empty() : Mono.delay(wait).then(permit());
+        });
+    }
+}
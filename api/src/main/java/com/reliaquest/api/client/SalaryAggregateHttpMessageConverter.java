@@ -0,0 +1,77 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.reliaquest.api.model.SalaryAggregate;
+import java.io.IOException;
+import java.util.List;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+/**
+ * Reads an upstream employee list response directly into a {@link SalaryAggregate} through
+ * {@link EmployeeStreamAggregator}, so {@code restClient.get().retrieve().body(SalaryAggregate.class)} keeps the
+ * client's status handling and rate limiting while never materializing the list. Any Jackson format that streams the
+ * same tokens works, given its factory and media type. Read-only: {@link #canWrite} is always false, so the client
+ * never picks it to write a request body.
+ */
+public class SalaryAggregateHttpMessageConverter implements HttpMessageConverter<SalaryAggregate> {
+
+    public static final int DEFAULT_TOP_EARNERS_LIMIT = 10;
+
+    private final JsonFactory jsonFactory;
+
+    private final int topEarnersLimit;
+
+    private final List<MediaType> supportedMediaTypes;
+
+    public SalaryAggregateHttpMessageConverter(JsonFactory jsonFactory) {
+        this(jsonFactory, DEFAULT_TOP_EARNERS_LIMIT);
+    }
+
+    public SalaryAggregateHttpMessageConverter(JsonFactory jsonFactory, int topEarnersLimit) {
+        this(jsonFactory, topEarnersLimit, MediaType.APPLICATION_JSON);
+    }
+
+    public SalaryAggregateHttpMessageConverter(JsonFactory jsonFactory, int topEarnersLimit, MediaType mediaType) {
+        this.jsonFactory = jsonFactory;
+        this.topEarnersLimit = topEarnersLimit;
+        this.supportedMediaTypes = List.of(mediaType);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return SalaryAggregate.class == clazz
+                && (mediaType == null || supportedMediaTypes.stream().anyMatch(type -> type.includes(mediaType)));
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes() {
+        return supportedMediaTypes;
+    }
+
+    @Override
+    public SalaryAggregate read(Class<? extends SalaryAggregate> clazz, HttpInputMessage inputMessage)
+            throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(inputMessage.getBody())) {
+            return EmployeeStreamAggregator.aggregate(parser, topEarnersLimit);
+        } catch (IOException ex) {
+            throw new HttpMessageNotReadableException(
+                    "Could not aggregate employee list: " + ex.getMessage(), ex, inputMessage);
+        }
+    }
+
+    @Override
+    public void write(SalaryAggregate aggregate, MediaType contentType, HttpOutputMessage outputMessage) {
+        throw new HttpMessageNotWritableException("SalaryAggregate is read-only");
+    }
+}
@@ -0,0 +1,126 @@
+package com.reliaquest.api.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Times every request to the employee upstream, tagged with its method, endpoint and status, into
+ * {@value #TIMER} with percentile histogram buckets.
+ *
+ * <p>The endpoint is the path below the client's base path with employee ids replaced by {@code {id}}, so the number of
+ * series stays fixed however many employees there are. A request is timed until its response is closed, which
+ * includes reading the body; a request that fails without a response is tagged with status {@code IO_ERROR}.
+ * Registered after the rate limiter, so time spent waiting for a permit is not counted as upstream latency.
+ */
+public class UpstreamMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    public static final String TIMER = "employee.upstream.requests";
+
+    private static final Pattern ID_SEGMENT =
+            Pattern.compile("/[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}(?=/|$)");
+
+    private static final String IO_ERROR = "IO_ERROR";
+
+    private final MeterRegistry registry;
+
+    private final String basePath;
+
+    public UpstreamMetricsInterceptor(MeterRegistry registry, String basePath) {
+        this.registry = registry;
+        this.basePath = basePath;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        long start = System.nanoTime();
+        ClientHttpResponse response;
+        String status;
+        try {
+            response = execution.execute(request, body);
+            status = Integer.toString(response.getStatusCode().value());
+        } catch (IOException | RuntimeException ex) {
+            timer(request, IO_ERROR).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw ex;
+        }
+        return new TimedResponse(response, timer(request, status), start);
+    }
+
+    String endpoint(URI uri) {
+        String path = uri.getRawPath() == null ? "" : uri.getRawPath();
+        if (path.startsWith(basePath)) {
+            path = path.substring(basePath.length());
+        }
+        path = ID_SEGMENT.matcher(path).replaceAll("/{id}");
+        return path.isEmpty() ? "/" : path;
+    }
+
+    private Timer timer(HttpRequest request, String status) {
+        return Timer.builder(TIMER)
+                .tag("method", request.getMethod().name())
+                .tag("endpoint", endpoint(request.getURI()))
+                .tag("status", status)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    /**
+     * Records the request once, when the response is closed after its body has been read.
+     */
+    private static final class TimedResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+
+        private final Timer timer;
+
+        private final long start;
+
+        private boolean recorded;
+
+        TimedResponse(ClientHttpResponse delegate, Timer timer, long start) {
+            this.delegate = delegate;
+            this.timer = timer;
+            this.start = start;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            if (!recorded) {
+                recorded = true;
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.cache.EmployeeCacheSettings;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class EmployeeCacheConfig {
+
+    @Bean
+    public EmployeeCacheSettings employeeCacheSettings(
+            @Value("${employee.cache.ttl:60s}") Duration ttl,
+            @Value("${employee.cache.refresh-ahead:10s}") Duration refreshAhead,
+            @Value("${employee.cache.max-stale:10m}") Duration maxStale,
+            @Value("${employee.cache.warm-up:true}") boolean warmUp) {
+        return new EmployeeCacheSettings(ttl, refreshAhead, maxStale, warmUp);
+    }
+}
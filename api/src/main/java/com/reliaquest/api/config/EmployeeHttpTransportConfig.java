@@ -0,0 +1,98 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.client.HttpTransportSettings;
+import com.reliaquest.api.client.MeteredConnectionManager;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+/**
+ * Transport for {@code employeeRestClient}, selected by {@code employee.api.transport.mode}: {@code pooled} (default)
+ * keeps HTTP/1.1 connections alive in a bounded Apache HttpClient pool; {@code h2c} multiplexes requests over
+ * cleartext HTTP/2 with the JDK client, which the mock server accepts as an upgrade.
+ */
+@Configuration
+public class EmployeeHttpTransportConfig {
+
+    @Bean
+    public HttpTransportSettings employeeTransportSettings(
+            @Value("${employee.api.transport.max-connections:200}") int maxConnections,
+            @Value("${employee.api.transport.max-connections-per-route:50}") int maxConnectionsPerRoute,
+            @Value("${employee.api.transport.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${employee.api.transport.read-timeout:10s}") Duration readTimeout,
+            @Value("${employee.api.transport.pool-acquire-timeout:1s}") Duration poolAcquireTimeout,
+            @Value("${employee.api.transport.max-idle-time:30s}") Duration maxIdleTime,
+            @Value("${employee.api.transport.time-to-live:5m}") Duration timeToLive) {
+        return new HttpTransportSettings(
+                maxConnections,
+                maxConnectionsPerRoute,
+                connectTimeout,
+                readTimeout,
+                poolAcquireTimeout,
+                maxIdleTime,
+                timeToLive);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "employee.api.transport.mode", havingValue = "pooled", matchIfMissing = true)
+    public MeteredConnectionManager employeeConnectionManager(HttpTransportSettings settings) {
+        MeteredConnectionManager connectionManager = new MeteredConnectionManager();
+        connectionManager.setMaxTotal(settings.maxConnections());
+        connectionManager.setDefaultMaxPerRoute(settings.maxConnectionsPerRoute());
+        connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(timeout(settings.connectTimeout()))
+                .setSocketTimeout(timeout(settings.readTimeout()))
+                .setTimeToLive(TimeValue.ofMilliseconds(settings.timeToLive().toMillis()))
+                .build());
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "employee.api.transport.mode", havingValue = "pooled", matchIfMissing = true)
+    public CloseableHttpClient employeeHttpClient(
+            HttpTransportSettings settings, MeteredConnectionManager employeeConnectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(employeeConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(timeout(settings.poolAcquireTimeout()))
+                        .setResponseTimeout(timeout(settings.readTimeout()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(settings.maxIdleTime().toMillis()))
+                .build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "employee.api.transport.mode", havingValue = "pooled", matchIfMissing = true)
+    public ClientHttpRequestFactory employeeRequestFactory(CloseableHttpClient employeeHttpClient) {
+        return new HttpComponentsClientHttpRequestFactory(employeeHttpClient);
+    }
+
+    @Bean(name = "employeeRequestFactory")
+    @ConditionalOnProperty(name = "employee.api.transport.mode", havingValue = "h2c")
+    public ClientHttpRequestFactory employeeH2cRequestFactory(HttpTransportSettings settings) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(settings.connectTimeout())
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(settings.readTimeout());
+        return requestFactory;
+    }
+
+    private static Timeout timeout(Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
+}
@@ -1,10 +1,30 @@
 package com.reliaquest.api.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.api.client.AdaptiveRateLimiter;
+import com.reliaquest.api.client.BatchSettings;
+import com.reliaquest.api.client.EmployeeFetchMode;
+import com.reliaquest.api.client.EmployeeFetchSettings;
+import com.reliaquest.api.client.EmployeeWireFormat;
+import com.reliaquest.api.client.GzipResponseInterceptor;
+import com.reliaquest.api.client.NdjsonEmployeeHttpMessageConverter;
+import com.reliaquest.api.client.RateLimiterSettings;
+import com.reliaquest.api.client.SalaryAggregateHttpMessageConverter;
+import com.reliaquest.api.client.UpstreamMetricsInterceptor;
 import com.reliaquest.api.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.client.RestClient;
 
 @Configuration
@@ -13,19 +33,78 @@ public class EmployeeRestClientConfig {
     @Value("${api.rate-limit.error}")
     private String rateLimitErrorMsg;
 
+    @Bean
+    public AdaptiveRateLimiter employeeRateLimiter(
+            @Value("${employee.api.rate-limit.enabled:true}") boolean enabled,
+            @Value("${employee.api.rate-limit.initial-permits:5}") int initialPermits,
+            @Value("${employee.api.rate-limit.max-permits:50}") int maxPermits,
+            @Value("${employee.api.rate-limit.initial-window:30s}") Duration initialWindow,
+            @Value("${employee.api.rate-limit.max-window:120s}") Duration maxWindow,
+            @Value("${employee.api.rate-limit.max-wait:500ms}") Duration maxWait) {
+        var settings = new RateLimiterSettings(enabled, initialPermits, maxPermits, initialWindow, maxWindow, maxWait);
+        return new AdaptiveRateLimiter(settings, rateLimitErrorMsg, Clock.systemUTC());
+    }
+
+    @Bean
+    public EmployeeFetchSettings employeeFetchSettings(
+            @Value("${employee.api.fetch-mode:full}") String mode,
+            @Value("${employee.api.page-size:500}") int pageSize) {
+        return new EmployeeFetchSettings(EmployeeFetchMode.valueOf(mode.toUpperCase(Locale.ROOT)), pageSize);
+    }
+
+    @Bean
+    public BatchSettings employeeCreateBatchSettings(
+            @Value("${employee.api.create-batch.max-size:50}") int maxBatchSize,
+            @Value("${employee.api.create-batch.linger:10ms}") Duration linger) {
+        return new BatchSettings(maxBatchSize, linger);
+    }
+
+    @Bean
+    public BatchSettings employeeLookupBatchSettings(
+            @Value("${employee.api.lookup-batch.max-size:100}") int maxBatchSize,
+            @Value("${employee.api.lookup-batch.linger:5ms}") Duration linger) {
+        return new BatchSettings(maxBatchSize, linger);
+    }
+
     @Bean(name = "employeeRestClient")
     public RestClient employeeRestClient(
             @Value("${employee.api.protocol}") String protocol,
             @Value("${employee.api.host}") String host,
             @Value("${employee.api.port}") String port,
-            @Value("${employee.api.base-url}") String basePath) {
+            @Value("${employee.api.base-url}") String basePath,
+            AdaptiveRateLimiter employeeRateLimiter,
+            @Qualifier("employeeRequestFactory") ClientHttpRequestFactory employeeRequestFactory,
+            @Value("${employee.api.wire-format:smile}") String wireFormat,
+            ObjectMapper objectMapper,
+            Jackson2ObjectMapperBuilder objectMapperBuilder,
+            MeterRegistry meterRegistry) {
         String baseUrl = String.format("%s://%s:%s%s", protocol, host, port, basePath);
+        EmployeeWireFormat format = EmployeeWireFormat.valueOf(wireFormat.toUpperCase(Locale.ROOT));
+        ObjectMapper smileMapper = objectMapperBuilder.factory(new SmileFactory()).build();
         return RestClient.builder()
                 .baseUrl(baseUrl)
+                .requestFactory(employeeRequestFactory)
+                .requestInterceptor(employeeRateLimiter)
+                .requestInterceptor(new UpstreamMetricsInterceptor(meterRegistry, basePath))
+                .requestInterceptor(new GzipResponseInterceptor())
+                .defaultHeaders(headers -> headers.setAccept(format.accept()))
+                .messageConverters(converters -> {
+                    converters.removeIf(MappingJackson2SmileHttpMessageConverter.class::isInstance);
+                    converters.add(0, new SalaryAggregateHttpMessageConverter(objectMapper.getFactory()));
+                    converters.add(
+                            1,
+                            new SalaryAggregateHttpMessageConverter(
+                                    smileMapper.getFactory(),
+                                    SalaryAggregateHttpMessageConverter.DEFAULT_TOP_EARNERS_LIMIT,
+                                    EmployeeWireFormat.SMILE_MEDIA_TYPE));
+                    converters.add(2, new NdjsonEmployeeHttpMessageConverter(objectMapper));
+                    converters.add(new MappingJackson2SmileHttpMessageConverter(smileMapper));
+                })
                 .defaultStatusHandler(
                         status -> status == HttpStatus.TOO_MANY_REQUESTS, // ✅ Predicate<HttpStatusCode>
                         (request, response) -> {
-                            throw new TooManyRequestsException(rateLimitErrorMsg);
+                            throw new TooManyRequestsException(
+                                    rateLimitErrorMsg, employeeRateLimiter.timeUntilPermit());
                         })
                 .build();
     }
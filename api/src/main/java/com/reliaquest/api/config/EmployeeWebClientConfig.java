@@ -0,0 +1,78 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.client.AdaptiveRateLimiter;
+import com.reliaquest.api.client.RateLimitingExchangeFilter;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * Non-blocking client for the employee upstream, used when {@code employee.client.mode=reactive}. Upstream waits are
+ * held by a small event-loop group instead of servlet threads; the connection pool bounds how many are on the wire and
+ * how many may queue for a connection.
+ */
+@Configuration
+@ConditionalOnProperty(name = "employee.client.mode", havingValue = "reactive")
+public class EmployeeWebClientConfig {
+
+    @Value("${api.rate-limit.error}")
+    private String rateLimitErrorMsg;
+
+    /**
+     * Event loops owned by this client rather than Reactor Netty's global ones, released with the context.
+     */
+    @Bean(destroyMethod = "dispose")
+    public LoopResources employeeApiLoopResources(
+            @Value("${employee.api.reactive.event-loop-threads:4}") int eventLoopThreads) {
+        return LoopResources.create("employee-api", eventLoopThreads, true);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider employeeApiConnectionProvider(
+            @Value("${employee.api.reactive.max-connections:500}") int maxConnections,
+            @Value("${employee.api.reactive.pending-acquire-max-count:10000}") int pendingAcquireMaxCount,
+            @Value("${employee.api.reactive.pending-acquire-timeout:5s}") Duration pendingAcquireTimeout,
+            @Value("${employee.api.reactive.max-idle-time:30s}") Duration maxIdleTime) {
+        return ConnectionProvider.builder("employee-api")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .build();
+    }
+
+    @Bean(name = "employeeWebClient")
+    public WebClient employeeWebClient(
+            @Value("${employee.api.protocol}") String protocol,
+            @Value("${employee.api.host}") String host,
+            @Value("${employee.api.port}") String port,
+            @Value("${employee.api.base-url}") String basePath,
+            @Value("${employee.api.reactive.response-timeout:10s}") Duration responseTimeout,
+            LoopResources employeeApiLoopResources,
+            ConnectionProvider employeeApiConnectionProvider,
+            AdaptiveRateLimiter employeeRateLimiter) {
+        String baseUrl = String.format("%s://%s:%s%s", protocol, host, port, basePath);
+        HttpClient httpClient = HttpClient.create(employeeApiConnectionProvider)
+                .runOn(employeeApiLoopResources)
+                .responseTimeout(responseTimeout);
+        return WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(new RateLimitingExchangeFilter(employeeRateLimiter))
+                .defaultStatusHandler(
+                        status -> status.isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS),
+                        response -> Mono.error(
+                                new TooManyRequestsException(rateLimitErrorMsg, employeeRateLimiter.timeUntilPermit())))
+                .build();
+    }
+}
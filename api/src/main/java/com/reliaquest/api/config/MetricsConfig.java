@@ -0,0 +1,149 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.cache.SingleFlight;
+import com.reliaquest.api.client.AdaptiveRateLimiter;
+import com.reliaquest.api.client.MeteredConnectionManager;
+import com.reliaquest.api.client.MicroBatcher;
+import com.reliaquest.api.service.EmployeeServiceImpl;
+import com.reliaquest.api.service.ReactiveEmployeeServiceImpl;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+
+/**
+ * Metrics scraped from {@code /actuator/prometheus}: the aspect behind {@code @Timed}, retry outcomes, and the counters
+ * the upstream client already keeps, read on each scrape rather than copied.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    /**
+     * Counts every failed {@code @Retryable} attempt, tagged with the retry label. Spring Retry applies listener beans
+     * to every retry. Fallbacks are counted by the {@code @Recover} methods themselves: a listener also sees calls that
+     * failed without being retried, and cannot tell them from exhausted ones.
+     */
+    @Bean
+    public RetryListener meteredRetryListener(MeterRegistry registry) {
+        return new RetryListener() {
+            @Override
+            public <T, E extends Throwable> void onError(
+                    RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+                registry.counter(
+                                "employee.retry.failed.attempts",
+                                "name",
+                                retryName(context),
+                                "exception",
+                                throwable.getClass().getSimpleName())
+                        .increment();
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder employeeRateLimiterMetrics(AdaptiveRateLimiter limiter) {
+        return registry -> {
+            Gauge.builder("employee.ratelimiter.permits", limiter, l -> l.stats().estimatedPermits())
+                    .register(registry);
+            Gauge.builder("employee.ratelimiter.permits.available", limiter, l -> l.stats().availablePermits())
+                    .register(registry);
+            FunctionCounter.builder("employee.ratelimiter.rejections", limiter, l -> l.stats().localRejections())
+                    .register(registry);
+            FunctionCounter.builder("employee.ratelimiter.paced", limiter, l -> l.stats().pacedRequests())
+                    .register(registry);
+            FunctionCounter.builder("employee.ratelimiter.throttled", limiter, l -> l.stats().upstreamThrottles())
+                    .description("429 responses from the upstream")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder employeeServiceMetrics(
+            ObjectProvider<EmployeeServiceImpl> blockingService,
+            ObjectProvider<ReactiveEmployeeServiceImpl> reactiveService) {
+        return registry -> {
+            blockingService.ifAvailable(service -> {
+                bindCoalescing(registry, service, EmployeeServiceImpl::upstreamCoalescingStats);
+                bindBatching(registry, service, EmployeeServiceImpl::createBatchingStats);
+                bindBatching(registry, service, EmployeeServiceImpl::lookupBatchingStats);
+            });
+            reactiveService.ifAvailable(service ->
+                    bindCoalescing(registry, service, ReactiveEmployeeServiceImpl::upstreamCoalescingStats));
+        };
+    }
+
+    @Bean
+    public MeterBinder employeeConnectionPoolMetrics(ObjectProvider<MeteredConnectionManager> connectionManager) {
+        return registry -> connectionManager.ifAvailable(pool -> {
+            Gauge.builder("employee.pool.leased", pool, p -> p.stats().leased()).register(registry);
+            Gauge.builder("employee.pool.pending", pool, p -> p.stats().pending()).register(registry);
+            Gauge.builder("employee.pool.available", pool, p -> p.stats().available()).register(registry);
+            Gauge.builder("employee.pool.max", pool, p -> p.stats().max()).register(registry);
+            FunctionCounter.builder("employee.pool.leases", pool, p -> p.stats().leases()).register(registry);
+            FunctionCounter.builder("employee.pool.lease.timeouts", pool, p -> p.stats().leaseTimeouts())
+                    .register(registry);
+            Gauge.builder("employee.pool.lease.wait.max", pool, p -> p.stats().maxWait().toNanos() / 1e9)
+                    .baseUnit("seconds")
+                    .register(registry);
+        });
+    }
+
+    /*
+     * Meters hold their state object weakly, so they read through the service bean rather than a stats snapshot.
+     */
+    private static <S> void bindCoalescing(
+            MeterRegistry registry, S service, Function<S, List<SingleFlight.Stats>> stats) {
+        List<SingleFlight.Stats> flights = stats.apply(service);
+        for (int i = 0; i < flights.size(); i++) {
+            int index = i;
+            String flight = flights.get(i).name();
+            FunctionCounter.builder(
+                            "employee.coalescing.executions",
+                            service,
+                            s -> stats.apply(s).get(index).executions())
+                    .tag("flight", flight)
+                    .register(registry);
+            FunctionCounter.builder(
+                            "employee.coalescing.coalesced",
+                            service,
+                            s -> stats.apply(s).get(index).coalesced())
+                    .tag("flight", flight)
+                    .register(registry);
+            Gauge.builder("employee.coalescing.in.flight", service, s -> stats.apply(s).get(index).inFlight())
+                    .tag("flight", flight)
+                    .register(registry);
+        }
+    }
+
+    private static <S> void bindBatching(MeterRegistry registry, S service, Function<S, MicroBatcher.Stats> stats) {
+        String batcher = stats.apply(service).name();
+        FunctionCounter.builder("employee.batching.batches", service, s -> stats.apply(s).batches())
+                .tag("batcher", batcher)
+                .register(registry);
+        FunctionCounter.builder("employee.batching.items", service, s -> stats.apply(s).items())
+                .tag("batcher", batcher)
+                .register(registry);
+        Gauge.builder("employee.batching.pending", service, s -> stats.apply(s).pending())
+                .tag("batcher", batcher)
+                .register(registry);
+    }
+
+    private static String retryName(RetryContext context) {
+        Object name = context.getAttribute(RetryContext.NAME);
+        return name == null ? "unknown" : name.toString();
+    }
+}
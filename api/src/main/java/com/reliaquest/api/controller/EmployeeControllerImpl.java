@@ -1,16 +1,20 @@
 package com.reliaquest.api.controller;
 
 import com.reliaquest.api.dto.EmployeeRequestDTO;
+import com.reliaquest.api.exception.LocalRateLimitException;
 import com.reliaquest.api.exception.TooManyRequestsException;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.service.EmployeeServiceImpl;
 import com.reliaquest.api.service.IEmployeeService;
 import com.reliaquest.api.validator.EmployeeValidator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.List;
-import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Recover;
@@ -20,41 +24,66 @@ import org.springframework.web.bind.annotation.*;
 
 @RestController
 @Validated
+@ConditionalOnProperty(name = "employee.client.mode", havingValue = "blocking", matchIfMissing = true)
 public class EmployeeControllerImpl implements IEmployeeController<Employee, EmployeeRequestDTO> {
 
     private static final Logger logger = LoggerFactory.getLogger(EmployeeServiceImpl.class);
 
+    /**
+     * Whether a snapshot-backed response is within its TTL ({@code HIT}) or served past it ({@code STALE}).
+     */
+    private static final String CACHE_STATUS_HEADER = "X-Cache-Status";
+
     private final IEmployeeService employeeService;
 
     private final EmployeeValidator employeeValidator;
 
+    private final Counter getAllEmployeesFallbacks;
+
     @Autowired
-    public EmployeeControllerImpl(IEmployeeService employeeService, EmployeeValidator employeeValidator) {
+    public EmployeeControllerImpl(
+            IEmployeeService employeeService, EmployeeValidator employeeValidator, MeterRegistry registry) {
         this.employeeService = employeeService;
         this.employeeValidator = employeeValidator;
+        this.getAllEmployeesFallbacks = registry.counter("employee.retry.fallbacks", "name", "getAllEmployees");
     }
 
+    /**
+     * Upstream 429s are retried with backoff. Rejections from the client-side limiter are not: it has already waited
+     * as long as it allows, and parking the request thread for the backoff would defeat its fail-fast purpose.
+     */
     @Override
     @Retryable(
+            label = "getAllEmployees",
             value = {TooManyRequestsException.class},
+            noRetryFor = {LocalRateLimitException.class},
             maxAttempts = 3,
             backoff = @Backoff(delay = 3000, multiplier = 2))
     public ResponseEntity<List<Employee>> getAllEmployees() {
         List<Employee> employees = employeeService.getAllEmployees();
-        return ResponseEntity.ok(employees);
+        return withFreshness(employees);
     }
 
+    /**
+     * Reached only when there is no snapshot to serve at all; stale data is already served by the service while the
+     * upstream is throttling. It must return the same type as {@link #getAllEmployees()}, or spring-retry cannot match
+     * it and answers 500. An empty list would read as "no employees", so the 429 is passed on instead.
+     *
+     * <p>Spring Retry also recovers exceptions it did not retry, so local limiter rejections pass through here too;
+     * only upstream 429s, which get here after the last attempt, count as fallbacks.
+     */
     @Recover
-    public List<Employee> fallbackGetAllEmployees(TooManyRequestsException ex) {
-        // fallback logic when all retries fail
-        logger.error("Fallback triggered for getAllEmployees: {}", ex.getMessage());
-        return List.of();
+    public ResponseEntity<List<Employee>> fallbackGetAllEmployees(TooManyRequestsException ex) {
+        if (!(ex instanceof LocalRateLimitException)) {
+            getAllEmployeesFallbacks.increment();
+            logger.error("Fallback triggered for getAllEmployees: {}", ex.getMessage());
+        }
+        throw ex;
     }
 
     @Override
     public ResponseEntity<Employee> getEmployeeById(@PathVariable String id) {
-        employeeValidator.validateUUID(id);
-        Employee employee = employeeService.getEmployeeById(UUID.fromString(id));
+        Employee employee = employeeService.getEmployeeById(employeeValidator.validateUUID(id));
         return ResponseEntity.ok(employee);
     }
 
@@ -62,19 +91,19 @@ public class EmployeeControllerImpl implements IEmployeeController<Employee, Emp
     public ResponseEntity<List<Employee>> getEmployeesByNameSearch(@PathVariable String searchString) {
         employeeValidator.validateEmployeeName(searchString);
         List<Employee> employees = employeeService.getEmployeesByNameSearch(searchString);
-        return ResponseEntity.ok(employees);
+        return withFreshness(employees);
     }
 
     @Override
     public ResponseEntity<Integer> getHighestSalaryOfEmployees() {
         int highestSalary = employeeService.getHighestSalary();
-        return ResponseEntity.ok(highestSalary);
+        return withFreshness(highestSalary);
     }
 
     @Override
     public ResponseEntity<List<String>> getTopTenHighestEarningEmployeeNames() {
         List<String> names = employeeService.getTopTenHighestEarningEmployeeNames();
-        return ResponseEntity.ok(names);
+        return withFreshness(names);
     }
 
     @Override
@@ -86,8 +115,20 @@ public class EmployeeControllerImpl implements IEmployeeController<Employee, Emp
 
     @Override
     public ResponseEntity<String> deleteEmployeeById(@PathVariable String id) {
-        employeeValidator.validateUUID(id);
-        employeeService.deleteEmployeeById(UUID.fromString(id));
+        employeeService.deleteEmployeeById(employeeValidator.validateUUID(id));
         return ResponseEntity.ok("Deleted employee with id: " + id);
     }
+
+    /**
+     * Adds {@code Age} and {@value #CACHE_STATUS_HEADER} to responses built from the local snapshot. The stale
+     * {@code Warning} header would be the textbook signal, but RFC 9111 obsoleted it and clients ignore it.
+     */
+    private <T> ResponseEntity<T> withFreshness(T body) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        employeeService.getDataFreshness().ifPresent(freshness -> {
+            response.header(HttpHeaders.AGE, String.valueOf(freshness.age().toSeconds()));
+            response.header(CACHE_STATUS_HEADER, freshness.stale() ? "STALE" : "HIT");
+        });
+        return response.body(body);
+    }
 }
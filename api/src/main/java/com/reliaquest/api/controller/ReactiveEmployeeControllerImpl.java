@@ -0,0 +1,111 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.dto.EmployeeRequestDTO;
+import com.reliaquest.api.exception.LocalRateLimitException;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.IReactiveEmployeeService;
+import com.reliaquest.api.validator.EmployeeValidator;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Serves the {@link IEmployeeController} routes from {@link IReactiveEmployeeService} when
+ * {@code employee.client.mode=reactive}. Handlers return {@link Mono}s, which Spring MVC completes asynchronously, so
+ * no servlet thread is held while the upstream call is in flight.
+ */
+@RestController
+@Validated
+@ConditionalOnProperty(name = "employee.client.mode", havingValue = "reactive")
+public class ReactiveEmployeeControllerImpl {
+
+    /**
+     * Whether a snapshot-backed response is within its TTL ({@code HIT}) or served past it ({@code STALE}).
+     */
+    private static final String CACHE_STATUS_HEADER = "X-Cache-Status";
+
+    /**
+     * Same policy as {@code @Retryable} on {@link EmployeeControllerImpl#getAllEmployees()}, without parking a thread:
+     * upstream 429s are retried, rejections from the client-side limiter are not.
+     */
+    private static final Retry RETRY_ON_THROTTLE = Retry.backoff(2, Duration.ofSeconds(3))
+            .filter(ex -> ex instanceof TooManyRequestsException && !(ex instanceof LocalRateLimitException))
+            .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+
+    private final IReactiveEmployeeService employeeService;
+
+    private final EmployeeValidator employeeValidator;
+
+    @Autowired
+    public ReactiveEmployeeControllerImpl(
+            IReactiveEmployeeService employeeService, EmployeeValidator employeeValidator) {
+        this.employeeService = employeeService;
+        this.employeeValidator = employeeValidator;
+    }
+
+    @GetMapping()
+    public Mono<ResponseEntity<List<Employee>>> getAllEmployees() {
+        return employeeService
+                .getAllEmployees()
+                .collectList()
+                .retryWhen(RETRY_ON_THROTTLE)
+                .map(this::withFreshness);
+    }
+
+    @GetMapping("/search/{searchString}")
+    public Mono<ResponseEntity<List<Employee>>> getEmployeesByNameSearch(@PathVariable String searchString) {
+        employeeValidator.validateEmployeeName(searchString);
+        return employeeService
+                .getEmployeesByNameSearch(searchString)
+                .collectList()
+                .map(this::withFreshness);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Employee>> getEmployeeById(@PathVariable String id) {
+        return employeeService.getEmployeeById(employeeValidator.validateUUID(id)).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/highestSalary")
+    public Mono<ResponseEntity<Integer>> getHighestSalaryOfEmployees() {
+        return employeeService.getHighestSalary().map(this::withFreshness);
+    }
+
+    @GetMapping("/topTenHighestEarningEmployeeNames")
+    public Mono<ResponseEntity<List<String>>> getTopTenHighestEarningEmployeeNames() {
+        return employeeService
+                .getTopTenHighestEarningEmployeeNames()
+                .collectList()
+                .map(this::withFreshness);
+    }
+
+    @PostMapping()
+    public Mono<ResponseEntity<Employee>> createEmployee(@RequestBody EmployeeRequestDTO employeeInput) {
+        employeeValidator.validateEmployeeRequest(employeeInput);
+        return employeeService.createEmployee(employeeInput).map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<String>> deleteEmployeeById(@PathVariable String id) {
+        return employeeService
+                .deleteEmployeeById(employeeValidator.validateUUID(id))
+                .thenReturn(ResponseEntity.ok("Deleted employee with id: " + id));
+    }
+
+    private <T> ResponseEntity<T> withFreshness(T body) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        employeeService.getDataFreshness().ifPresent(freshness -> {
+            response.header(HttpHeaders.AGE, String.valueOf(freshness.age().toSeconds()));
+            response.header(CACHE_STATUS_HEADER, freshness.stale() ? "STALE" : "HIT");
+        });
+        return response.body(body);
+    }
+}
@@ -2,9 +2,12 @@ package com.reliaquest.api.exception;
 
 /**
  * Custom unchecked exception for employee-related validation and business errors.
+ *
+ * <p>These are expected outcomes reported to the client by message alone, so no stack trace is captured; a flood of
+ * malformed requests then costs little more to reject than to serve.
  */
 public class EmployeeException extends RuntimeException {
     public EmployeeException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -1,36 +1,98 @@
 package com.reliaquest.api.exception;
 
-import java.util.HashMap;
-import java.util.Map;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+/**
+ * Error bodies are fixed-shape records rather than maps. Rejections tend to arrive in runs with the same message, such
+ * as one malformed id repeated by a misbehaving client, so the last body of each kind is kept and reused while the
+ * message stays the same.
+ *
+ * <p>Rejected and throttled requests are counted here, where every one of them ends up, rather than where they are
+ * thrown; that keeps the validator a plain bean instead of a metrics proxy.
+ */
 @ControllerAdvice
 public class EmployeeExceptionHandler {
 
+    private static final String EMPLOYEE_ERROR = "Employee Error";
+
+    private static final String UNEXPECTED_ERROR = "Unexpected Error";
+
+    private static final String TOO_MANY_REQUESTS = "Too Many Requests";
+
+    /**
+     * Counts 400 and 429 responses, tagged with the status.
+     */
+    static final String REJECTIONS_COUNTER = "employee.rejections";
+
+    private final Counter invalidRequests;
+
+    private final Counter throttledRequests;
+
+    private volatile ErrorBody lastEmployeeError = new ErrorBody(EMPLOYEE_ERROR, null);
+
+    private volatile RateLimitBody lastRateLimitError =
+            new RateLimitBody(TOO_MANY_REQUESTS, null, HttpStatus.TOO_MANY_REQUESTS.value());
+
+    public EmployeeExceptionHandler(MeterRegistry registry) {
+        this.invalidRequests = registry.counter(REJECTIONS_COUNTER, "status", "400");
+        this.throttledRequests = registry.counter(REJECTIONS_COUNTER, "status", "429");
+    }
+
     @ExceptionHandler(EmployeeException.class)
-    public ResponseEntity<Map<String, Object>> handleEmployeeException(EmployeeException ex) {
-        Map<String, Object> response = new HashMap<>();
-        response.put("status", "Employee Error");
-        response.put("error", ex.getMessage());
-        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    public ResponseEntity<ErrorBody> handleEmployeeException(EmployeeException ex) {
+        invalidRequests.increment();
+        ErrorBody body = lastEmployeeError;
+        if (!sameMessage(body.error(), ex.getMessage())) {
+            body = new ErrorBody(EMPLOYEE_ERROR, ex.getMessage());
+            lastEmployeeError = body;
+        }
+        return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Not cached like the other errors: the message names the missing id, so it rarely repeats.
+     */
+    @ExceptionHandler(EmployeeNotFoundException.class)
+    public ResponseEntity<ErrorBody> handleEmployeeNotFoundException(EmployeeNotFoundException ex) {
+        return new ResponseEntity<>(new ErrorBody(EMPLOYEE_ERROR, ex.getMessage()), HttpStatus.NOT_FOUND);
     }
 
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<Map<String, Object>> handleUnexpectedException(Exception ex) {
-        Map<String, Object> response = new HashMap<>();
-        response.put("status", "Unexpected Error");
-        response.put("error", ex.getMessage());
-        return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+    public ResponseEntity<ErrorBody> handleUnexpectedException(Exception ex) {
+        return new ResponseEntity<>(new ErrorBody(UNEXPECTED_ERROR, ex.getMessage()), HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
     @ExceptionHandler(TooManyRequestsException.class)
-    public ResponseEntity<Map<String, Object>> handleTooManyRequestsException(TooManyRequestsException ex) {
-        Map<String, Object> errorDetails = new HashMap<>();
-        errorDetails.put("error", "Too Many Requests");
-        errorDetails.put("message", ex.getMessage());
-        errorDetails.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
-        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(errorDetails);
+    public ResponseEntity<RateLimitBody> handleTooManyRequestsException(TooManyRequestsException ex) {
+        throttledRequests.increment();
+        RateLimitBody body = lastRateLimitError;
+        if (!sameMessage(body.message(), ex.getMessage())) {
+            body = new RateLimitBody(TOO_MANY_REQUESTS, ex.getMessage(), HttpStatus.TOO_MANY_REQUESTS.value());
+            lastRateLimitError = body;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS);
+        ex.getRetryAfter()
+                .ifPresent(retryAfter ->
+                        response.header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfter.toSeconds()))));
+        return response.body(body);
     }
+
+    private static boolean sameMessage(String cached, String message) {
+        return cached == null ? message == null : cached.equals(message);
+    }
+
+    /**
+     * Body of 400, 404 and 500 responses.
+     */
+    public record ErrorBody(String status, String error) {}
+
+    /**
+     * Body of 429 responses; {@code status} repeats the response code.
+     */
+    public record RateLimitBody(String error, String message, int status) {}
 }
@@ -0,0 +1,10 @@
+package com.reliaquest.api.exception;
+
+/**
+ * No employee has the requested id, whichever upstream call found that out. Answered with 404.
+ */
+public class EmployeeNotFoundException extends EmployeeException {
+    public EmployeeNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+package com.reliaquest.api.exception;
+
+import java.time.Duration;
+
+/**
+ * A request turned away by the client-side rate limiter before it reached the upstream. Unlike an upstream 429 it is
+ * not worth retrying in-process: the limiter already waited as long as it allows.
+ */
+public class LocalRateLimitException extends TooManyRequestsException {
+    public LocalRateLimitException(String message) {
+        super(message);
+    }
+
+    public LocalRateLimitException(String message, Duration retryAfter) {
+        super(message, retryAfter);
+    }
+}
@@ -1,7 +1,29 @@
 package com.reliaquest.api.exception;
 
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * The upstream's request budget is used up, whether the upstream said so with a 429 or the client-side limiter
+ * predicted it. Thrown on every throttled request, so like {@link EmployeeException} it carries no stack trace.
+ */
 public class TooManyRequestsException extends RuntimeException {
+
+    private final Duration retryAfter;
+
     public TooManyRequestsException(String message) {
-        super(message);
+        this(message, null);
+    }
+
+    public TooManyRequestsException(String message, Duration retryAfter) {
+        super(message, null, false, false);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * How long until the upstream is expected to accept requests again, when known.
+     */
+    public Optional<Duration> getRetryAfter() {
+        return Optional.ofNullable(retryAfter);
     }
 }
@@ -0,0 +1,8 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * One item of the upstream's bulk create response: the created employee, or why the input was rejected.
+ */
+public record BulkCreateResult(@JsonProperty("employee") Employee employee, @JsonProperty("error") String error) {}
@@ -0,0 +1,9 @@
+package com.reliaquest.api.model;
+
+import java.time.Duration;
+
+/**
+ * How old the employee data behind a response is, and whether it is being served past its TTL because the upstream
+ * could not be reached.
+ */
+public record DataFreshness(Duration age, boolean stale) {}
@@ -0,0 +1,17 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * One entry of the upstream's change feed: an employee created or deleted at a given data version.
+ */
+public record EmployeeChange(
+        @JsonProperty("version") long version,
+        @JsonProperty("type") Type type,
+        @JsonProperty("employee") Employee employee) {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
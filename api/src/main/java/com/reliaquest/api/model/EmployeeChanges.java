@@ -0,0 +1,10 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+/**
+ * The upstream's changes since a requested cursor, oldest first, and the opaque cursor they bring the caller up to.
+ */
+public record EmployeeChanges(
+        @JsonProperty("cursor") String cursor, @JsonProperty("changes") List<EmployeeChange> changes) {}
@@ -0,0 +1,11 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+/**
+ * Salary statistics without the employee list behind them: the highest salary and the names of the top earners, best
+ * first. Either folded locally out of a streamed list or read from the upstream's aggregate endpoint.
+ */
+public record SalaryAggregate(
+        @JsonProperty("highest_salary") int highestSalary, @JsonProperty("top_earners") List<String> topEarners) {}
@@ -1,90 +1,606 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.cache.EmployeeCacheSettings;
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.cache.NameIndex;
+import com.reliaquest.api.cache.SalaryIndex;
+import com.reliaquest.api.cache.SingleFlight;
+import com.reliaquest.api.client.BatchSettings;
+import com.reliaquest.api.client.EmployeeFetchSettings;
+import com.reliaquest.api.client.MicroBatcher;
+import com.reliaquest.api.client.SalaryAggregateHttpMessageConverter;
 import com.reliaquest.api.dto.DeleteEmployeeRequestDTO;
 import com.reliaquest.api.dto.EmployeeRequestDTO;
 import com.reliaquest.api.exception.EmployeeException;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.model.*;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.MessageSource;
+import org.springframework.context.event.EventListener;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestClient;
 
 @Service
+@ConditionalOnProperty(name = "employee.client.mode", havingValue = "blocking", matchIfMissing = true)
 public class EmployeeServiceImpl implements IEmployeeService {
 
+    private static final String ALL_EMPLOYEES_KEY = "all";
+
+    private static final String SALARY_AGGREGATE_KEY = "salaries";
+
+    /**
+     * Response header the upstream sets on every page but the last; mirrors the mock server's controller.
+     */
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    /**
+     * Projection pushed down for salary aggregation; everything else in the upstream payload is dead weight.
+     */
+    private static final String SALARY_FIELDS = "id,employee_name,employee_salary";
+
+    private static final String SALARY_AGGREGATES_PATH = "/aggregates/salary";
+
+    private static final String BULK_CREATE_PATH = "/bulk";
+
+    private static final String LOOKUP_PATH = "/lookup";
+
+    private static final String CHANGES_PATH = "/changes";
+
+    /**
+     * Response header carrying the change feed cursor for the full list; mirrors the mock server's controller.
+     */
+    private static final String DATA_VERSION_HEADER = "X-Data-Version";
+
+    /**
+     * Timer for every service operation, tagged with the method; published with percentile histogram buckets.
+     */
+    private static final String SERVICE_TIMER = "employee.service";
+
+    private static final ParameterizedTypeReference<ApiResponse<List<Employee>>> EMPLOYEE_LIST =
+            new ParameterizedTypeReference<>() {};
+
+    private static final ParameterizedTypeReference<ApiResponse<SalaryAggregate>> SALARY_AGGREGATE =
+            new ParameterizedTypeReference<>() {};
+
+    private static final ParameterizedTypeReference<ApiResponse<List<BulkCreateResult>>> BULK_CREATED =
+            new ParameterizedTypeReference<>() {};
+
+    private static final ParameterizedTypeReference<ApiResponse<Employee>> EMPLOYEE =
+            new ParameterizedTypeReference<>() {};
+
+    private static final ParameterizedTypeReference<ApiResponse<EmployeeChanges>> EMPLOYEE_CHANGES =
+            new ParameterizedTypeReference<>() {};
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeServiceImpl.class);
+
+    private static final int TOP_EARNERS_LIMIT = SalaryAggregateHttpMessageConverter.DEFAULT_TOP_EARNERS_LIMIT;
+
     private final RestClient restClient;
 
     private final MessageSource messageSource;
 
-    public EmployeeServiceImpl(@Qualifier("employeeRestClient") RestClient restClient, MessageSource messageSource) {
+    private final EmployeeSnapshotCache snapshotCache;
+
+    private final EmployeeFetchSettings fetchSettings;
+
+    private final SingleFlight<String, List<Employee>> allEmployeesFlight = new SingleFlight<>("employees.all");
+
+    private final SingleFlight<UUID, Employee> employeeByIdFlight = new SingleFlight<>("employees.byId");
+
+    private final SingleFlight<String, SalaryAggregate> salaryAggregateFlight =
+            new SingleFlight<>("employees.salaryAggregate");
+
+    /**
+     * Cleared the first time the upstream answers 404 for its aggregate endpoint; stays cleared until restart.
+     */
+    private volatile boolean salaryAggregatesSupported = true;
+
+    private final MicroBatcher<EmployeeRequestDTO, BulkCreateResult> createBatcher;
+
+    /**
+     * Cleared the first time the upstream answers 404 or 405 for its bulk create endpoint; stays cleared until restart.
+     */
+    private volatile boolean bulkCreateSupported = true;
+
+    private final MicroBatcher<UUID, Employee> lookupBatcher;
+
+    /**
+     * Cleared the first time the upstream answers 404 or 405 for its lookup endpoint; stays cleared until restart.
+     */
+    private volatile boolean batchLookupSupported = true;
+
+    /**
+     * Entity tag of the last full list the upstream sent, with the list it describes.
+     */
+    private volatile ListValidator listValidator;
+
+    /**
+     * Opaque upstream change feed cursor the cached snapshot has caught up to, or {@code null} when it is unknown.
+     */
+    private volatile String syncedCursor;
+
+    /**
+     * Cleared the first time the upstream answers 400, 404 or 405 for its change feed; stays cleared until restart.
+     */
+    private volatile boolean changeFeedSupported = true;
+
+    public EmployeeServiceImpl(RestClient restClient, MessageSource messageSource) {
+        this(
+                restClient,
+                messageSource,
+                EmployeeCacheSettings.defaults(),
+                EmployeeFetchSettings.defaults(),
+                BatchSettings.defaults(),
+                BatchSettings.defaults());
+    }
+
+    @Autowired
+    public EmployeeServiceImpl(
+            @Qualifier("employeeRestClient") RestClient restClient,
+            MessageSource messageSource,
+            EmployeeCacheSettings cacheSettings,
+            EmployeeFetchSettings fetchSettings,
+            @Qualifier("employeeCreateBatchSettings") BatchSettings createBatchSettings,
+            @Qualifier("employeeLookupBatchSettings") BatchSettings lookupBatchSettings) {
         this.restClient = restClient;
         this.messageSource = messageSource;
+        this.fetchSettings = fetchSettings;
+        this.snapshotCache = new EmployeeSnapshotCache(this::fetchAllEmployees, cacheSettings, Clock.systemUTC());
+        this.createBatcher = new MicroBatcher<>(
+                "employees.create",
+                createBatchSettings.maxBatchSize(),
+                createBatchSettings.linger(),
+                this::createInBulk);
+        this.lookupBatcher = new MicroBatcher<>(
+                "employees.lookup",
+                lookupBatchSettings.maxBatchSize(),
+                lookupBatchSettings.linger(),
+                this::lookupInBatch);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startSnapshotCache() {
+        snapshotCache.start();
+    }
+
+    @PreDestroy
+    public void stopSnapshotCache() {
+        snapshotCache.stop();
+        createBatcher.close();
+        lookupBatcher.close();
+    }
+
+    /**
+     * Coalescing counters for the upstream calls made by this service.
+     */
+    public List<SingleFlight.Stats> upstreamCoalescingStats() {
+        return List.of(allEmployeesFlight.stats(), employeeByIdFlight.stats(), salaryAggregateFlight.stats());
     }
 
     @Override
+    @Timed(value = SERVICE_TIMER, histogram = true)
     public List<Employee> getAllEmployees() {
-        ApiResponse<List<Employee>> response = restClient.get().retrieve().body(new ParameterizedTypeReference<>() {});
-        return Objects.requireNonNull(response).data();
+        return snapshotCache.get().employees();
+    }
+
+    /**
+     * Concurrent callers share one in-flight upstream load of the full list, read as configured by
+     * {@link EmployeeFetchSettings}.
+     */
+    private List<Employee> fetchAllEmployees() {
+        return allEmployeesFlight.execute(ALL_EMPLOYEES_KEY, () -> switch (fetchSettings.mode()) {
+            case FULL -> fetchEmployeeList();
+            case PAGED -> fetchEmployeePages();
+            case STREAM -> streamEmployees();
+        });
+    }
+
+    /**
+     * Revalidates the cached list with {@code If-None-Match} when the snapshot still holds exactly the list the
+     * validator was taken from; a 304 then hands back that same list, which the cache renews without reindexing.
+     * Preferably though, a snapshot whose upstream version is known is caught up with just the changes since.
+     */
+    private List<Employee> fetchEmployeeList() {
+        Optional<List<Employee>> caughtUp = catchUpWithChanges();
+        if (caughtUp.isPresent()) {
+            return caughtUp.get();
+        }
+        List<Employee> cached = snapshotCache.peek().map(EmployeeSnapshot::employees).orElse(null);
+        ListValidator validator = listValidator;
+        if (validator != null && validator.employees() != cached) {
+            validator = null;
+        }
+        RestClient.RequestHeadersSpec<?> request = restClient.get();
+        if (validator != null) {
+            request = request.ifNoneMatch(validator.etag());
+        }
+        ResponseEntity<ApiResponse<List<Employee>>> response = request.retrieve().toEntity(EMPLOYEE_LIST);
+        if (validator != null && response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            logger.debug("Employee list unchanged upstream ({})", validator.etag());
+            return validator.employees();
+        }
+        List<Employee> data = Objects.requireNonNull(response.getBody()).data();
+        syncedCursor = data == null ? null : response.getHeaders().getFirst(DATA_VERSION_HEADER);
+        String etag = response.getHeaders().getETag();
+        if (data == null || etag == null) {
+            listValidator = null;
+            return data;
+        }
+        ListValidator fresh = new ListValidator(etag, List.copyOf(data));
+        listValidator = fresh;
+        return fresh.employees();
+    }
+
+    /**
+     * Applies the upstream's changes since {@link #syncedCursor} to the cached snapshot, so a refresh costs in
+     * proportion to what changed rather than to the size of the list. Empty when only a full reload can catch up: there
+     * is no snapshot or known cursor, the upstream answers 410 because it restarted or its change log no longer reaches
+     * back that far, or it has no change feed.
+     */
+    private Optional<List<Employee>> catchUpWithChanges() {
+        String since = syncedCursor;
+        if (since == null || !changeFeedSupported || snapshotCache.peek().isEmpty()) {
+            return Optional.empty();
+        }
+        EmployeeChanges feed;
+        try {
+            ApiResponse<EmployeeChanges> response = restClient
+                    .get()
+                    .uri(uri -> uri.path(CHANGES_PATH).queryParam("since", since).build())
+                    .retrieve()
+                    .body(EMPLOYEE_CHANGES);
+            feed = Objects.requireNonNull(response).data();
+        } catch (HttpClientErrorException.Gone ex) {
+            logger.info("Upstream can no longer replay changes since {}; reloading the full list", since);
+            return Optional.empty();
+        } catch (HttpClientErrorException.BadRequest
+                | HttpClientErrorException.NotFound
+                | HttpClientErrorException.MethodNotAllowed ex) {
+            changeFeedSupported = false;
+            logger.info("Upstream has no change feed; reloading the full list on every refresh");
+            return Optional.empty();
+        } catch (HttpServerErrorException ex) {
+            logger.warn("Upstream change feed failed; reloading the full list: {}", ex.getMessage());
+            return Optional.empty();
+        }
+        if (feed == null) {
+            return Optional.empty();
+        }
+        Map<UUID, Employee> created = new LinkedHashMap<>();
+        Set<UUID> deleted = new HashSet<>();
+        for (EmployeeChange change : feed.changes()) {
+            UUID id = change.employee().id();
+            if (change.type() == EmployeeChange.Type.CREATED) {
+                created.put(id, change.employee());
+            } else {
+                created.remove(id);
+                deleted.add(id);
+            }
+        }
+        Optional<EmployeeSnapshot> updated = snapshotCache.onChanged(created.values(), deleted);
+        if (updated.isPresent()) {
+            syncedCursor = feed.cursor();
+            logger.debug("Applied {} upstream changes up to {}", feed.changes().size(), feed.cursor());
+        }
+        return updated.map(EmployeeSnapshot::employees);
+    }
+
+    /**
+     * Follows the upstream's cursor until the last page. An upstream without paging ignores {@code limit} and sends
+     * everything in one page with no cursor, which ends the loop just the same.
+     */
+    private List<Employee> fetchEmployeePages() {
+        List<Employee> employees = new ArrayList<>();
+        Optional<String> cursor = Optional.empty();
+        do {
+            Optional<String> after = cursor;
+            ResponseEntity<ApiResponse<List<Employee>>> page = restClient
+                    .get()
+                    .uri(uri -> uri.queryParam("limit", fetchSettings.pageSize())
+                            .queryParamIfPresent("after", after)
+                            .build())
+                    .retrieve()
+                    .toEntity(EMPLOYEE_LIST);
+            List<Employee> data = Objects.requireNonNull(page.getBody()).data();
+            if (data != null) {
+                employees.addAll(data);
+            }
+            cursor = Optional.ofNullable(page.getHeaders().getFirst(NEXT_CURSOR_HEADER));
+        } while (cursor.isPresent());
+        return employees;
+    }
+
+    private List<Employee> streamEmployees() {
+        Employee[] employees =
+                restClient.get().accept(MediaType.APPLICATION_NDJSON).retrieve().body(Employee[].class);
+        return Arrays.asList(Objects.requireNonNull(employees));
     }
 
     @Override
+    @Timed(value = SERVICE_TIMER, histogram = true)
     public Employee getEmployeeById(UUID id) {
-        ApiResponse<Employee> response =
-                restClient.get().uri("/{id}", id).retrieve().body(new ParameterizedTypeReference<>() {});
+        var cached = snapshotCache.peek().flatMap(snapshot -> snapshot.findById(id));
+        Employee employee = cached.orElseGet(() -> fetchEmployeeById(id));
+        if (employee == null) {
+            throw notFound(id);
+        }
+        return employee;
+    }
+
+    /**
+     * Concurrent callers for the same id share one lookup, and lookups for different ids arriving within the linger
+     * window share one upstream call. An unknown id resolves to {@code null} whether or not it was batched.
+     */
+    private Employee fetchEmployeeById(UUID id) {
+        return employeeByIdFlight.execute(id, () -> lookupBatcher.execute(id));
+    }
+
+    private Employee getUpstreamEmployee(UUID id) {
+        ApiResponse<Employee> response;
+        try {
+            response = restClient.get().uri("/{id}", id).retrieve().body(EMPLOYEE);
+        } catch (HttpClientErrorException.NotFound ex) {
+            return null;
+        }
         return Objects.requireNonNull(response).data();
     }
 
+    private EmployeeNotFoundException notFound(UUID id) {
+        Locale locale = LocaleContextHolder.getLocale();
+        return new EmployeeNotFoundException(messageSource.getMessage("employee.notFound", new Object[] {id}, locale));
+    }
+
+    /**
+     * Batch call behind {@link #fetchEmployeeById}: the distinct ids go out in one lookup, and ids the upstream does
+     * not know resolve to {@code null} for their caller alone. A lone id, or every id once the upstream turns out to
+     * lack the lookup endpoint, is fetched with a plain GET.
+     */
+    private List<Employee> lookupInBatch(List<UUID> ids) {
+        if (ids.size() == 1 || !batchLookupSupported) {
+            return ids.stream().map(this::getUpstreamEmployee).toList();
+        }
+        List<Employee> found;
+        try {
+            ApiResponse<List<Employee>> response =
+                    restClient.post().uri(LOOKUP_PATH).body(new LinkedHashSet<>(ids)).retrieve().body(EMPLOYEE_LIST);
+            found = Objects.requireNonNull(response).data();
+        } catch (HttpClientErrorException.NotFound | HttpClientErrorException.MethodNotAllowed ex) {
+            batchLookupSupported = false;
+            logger.info("Upstream has no batch lookup endpoint; fetching employees one by one");
+            return ids.stream().map(this::getUpstreamEmployee).toList();
+        }
+        Map<UUID, Employee> byId = new HashMap<>();
+        if (found != null) {
+            found.forEach(employee -> byId.put(employee.id(), employee));
+        }
+        return ids.stream().map(byId::get).toList();
+    }
+
+    /**
+     * Batching counters for {@link #getEmployeeById} lookups that missed the snapshot.
+     */
+    public MicroBatcher.Stats lookupBatchingStats() {
+        return lookupBatcher.stats();
+    }
+
     @Override
+    @Timed(value = SERVICE_TIMER, histogram = true)
     public List<Employee> getEmployeesByNameSearch(String searchString) {
-        return getAllEmployees().stream()
-                .filter(emp -> emp.name().toLowerCase().contains(searchString.toLowerCase()))
-                .toList();
+        if (snapshotCache.peek().isEmpty()) {
+            return searchUpstream(searchString);
+        }
+        return snapshotCache.get().nameIndex().search(searchString);
+    }
+
+    /**
+     * Cold-cache path: the name predicate is pushed down so only matches cross the wire, and is applied again here so
+     * an upstream that ignores it still yields the right answer.
+     */
+    private List<Employee> searchUpstream(String searchString) {
+        snapshotCache.refreshInBackground();
+        List<Employee> candidates = queryUpstreamByName(searchString);
+        String query = NameIndex.fold(searchString);
+        return candidates.stream().filter(employee -> NameIndex.fold(employee.name()).contains(query)).toList();
     }
 
     @Override
+    @Timed(value = SERVICE_TIMER, histogram = true)
     public Employee createEmployee(EmployeeRequestDTO input) {
+        BulkCreateResult result = bulkCreateSupported ? createBatcher.execute(input) : null;
+        if (result != null && result.error() != null) {
+            String message = messageSource.getMessage(
+                    "employee.create.rejected", new Object[] {result.error()}, LocaleContextHolder.getLocale());
+            throw new EmployeeException(message);
+        }
+        Employee created = result == null ? postEmployee(input) : result.employee();
+        if (created != null) {
+            snapshotCache.onCreated(created);
+        }
+        return created;
+    }
+
+    private Employee postEmployee(EmployeeRequestDTO input) {
         ApiResponse<Employee> response =
                 restClient.post().body(input).retrieve().body(new ParameterizedTypeReference<>() {});
         return Objects.requireNonNull(response).data();
     }
 
+    /**
+     * Batch call behind {@link #createEmployee}. A {@code null} result sends that caller back to a plain POST of its
+     * own, which is what a lone item gets and what every item gets once the upstream turns out to lack bulk create.
+     */
+    private List<BulkCreateResult> createInBulk(List<EmployeeRequestDTO> inputs) {
+        if (inputs.size() == 1 || !bulkCreateSupported) {
+            return Collections.nCopies(inputs.size(), null);
+        }
+        try {
+            ApiResponse<List<BulkCreateResult>> response =
+                    restClient.post().uri(BULK_CREATE_PATH).body(inputs).retrieve().body(BULK_CREATED);
+            return Objects.requireNonNull(response).data();
+        } catch (HttpClientErrorException.NotFound | HttpClientErrorException.MethodNotAllowed ex) {
+            bulkCreateSupported = false;
+            logger.info("Upstream has no bulk create endpoint; creating employees one by one");
+            return Collections.nCopies(inputs.size(), null);
+        }
+    }
+
+    /**
+     * Batching counters for {@link #createEmployee}.
+     */
+    public MicroBatcher.Stats createBatchingStats() {
+        return createBatcher.stats();
+    }
+
+    /**
+     * The employee's name and the duplicate-name check are answered from the snapshot when one is usable, so a delete
+     * normally costs a single upstream call. Otherwise the employee is looked up by id and its name queried upstream,
+     * rather than loading the whole list. The upstream deletes by name, which is why a name shared by several
+     * employees is rejected.
+     */
     @Override
+    @Timed(value = SERVICE_TIMER, histogram = true)
     public void deleteEmployeeById(UUID id) {
-        String empName = getEmployeeById(id).name();
+        Optional<EmployeeSnapshot> snapshot = snapshotCache.usable();
+        Employee employee = snapshot.flatMap(usable -> usable.findById(id)).orElseGet(() -> fetchEmployeeById(id));
+        if (employee == null) {
+            throw notFound(id);
+        }
         Locale locale = LocaleContextHolder.getLocale();
-        List<Employee> empListWithName = getEmployeesByNameSearch(empName);
-        System.out.println("::Name" + empListWithName);
-        if (empListWithName != null && empListWithName.size() > 1) {
+        String empName = employee.name();
+        List<Employee> sameName =
+                snapshot.isPresent() ? snapshot.get().nameIndex().findByName(empName) : queryUpstreamByName(empName);
+        String folded = NameIndex.fold(empName);
+        boolean duplicateName = sameName.stream()
+                .anyMatch(other ->
+                        !id.equals(other.id()) && NameIndex.fold(other.name()).equals(folded));
+        if (duplicateName) {
             String message = messageSource.getMessage("employee.name.duplicate", new Object[] {empName}, locale);
             throw new EmployeeException(message);
         }
         var body = new DeleteEmployeeRequestDTO(empName);
         ApiResponse<Boolean> response =
                 restClient.method(HttpMethod.DELETE).body(body).retrieve().body(new ParameterizedTypeReference<>() {});
-        if (!Boolean.TRUE.equals(response.data())) {
+        if (!Boolean.TRUE.equals(Objects.requireNonNull(response).data())) {
             String message = messageSource.getMessage("employee.delete.failed", new Object[] {id}, locale);
             throw new EmployeeException(message);
         }
+        snapshotCache.onDeleted(id);
+    }
+
+    /**
+     * Asks the upstream for the employees whose name contains {@code name}. Callers still match the names themselves,
+     * since an upstream that does not filter answers with the whole list.
+     */
+    private List<Employee> queryUpstreamByName(String name) {
+        ApiResponse<List<Employee>> response = restClient
+                .get()
+                .uri(uri -> uri.queryParam("name", name).build())
+                .retrieve()
+                .body(EMPLOYEE_LIST);
+        List<Employee> employees = Objects.requireNonNull(response).data();
+        return employees == null ? List.of() : employees;
     }
 
     @Override
+    public Optional<DataFreshness> getDataFreshness() {
+        return snapshotCache.freshness();
+    }
+
+    @Override
+    @Timed(value = SERVICE_TIMER, histogram = true)
     public int getHighestSalary() {
-        return getAllEmployees().stream().mapToInt(Employee::salary).max().orElse(0);
+        if (snapshotCache.peek().isEmpty()) {
+            return aggregateSalaries().highestSalary();
+        }
+        return snapshotCache.get().salaryIndex().highestSalary();
     }
 
+    /**
+     * Ties on salary are ordered as documented on {@link SalaryIndex#ORDER}.
+     */
     @Override
+    @Timed(value = SERVICE_TIMER, histogram = true)
     public List<String> getTopTenHighestEarningEmployeeNames() {
-        return getAllEmployees().stream()
-                .sorted((a, b) -> Integer.compare(b.salary(), a.salary()))
-                .limit(10)
+        if (snapshotCache.peek().isEmpty()) {
+            return aggregateSalaries().topEarners();
+        }
+        return snapshotCache.get().salaryIndex().top(TOP_EARNERS_LIMIT).stream()
                 .map(Employee::name)
                 .toList();
     }
+
+    /**
+     * Cold-cache path, while the snapshot is loaded in the background for the next caller. Prefers the upstream's
+     * maintained aggregates; an upstream without them gets its list streamed through
+     * {@link SalaryAggregateHttpMessageConverter}, projected onto the fields the aggregate reads.
+     */
+    private SalaryAggregate aggregateSalaries() {
+        snapshotCache.refreshInBackground();
+        return salaryAggregateFlight.execute(SALARY_AGGREGATE_KEY, () -> {
+            if (salaryAggregatesSupported) {
+                Optional<SalaryAggregate> aggregate = fetchSalaryAggregates();
+                if (aggregate.isPresent()) {
+                    return aggregate.get();
+                }
+            }
+            return streamSalaryAggregate();
+        });
+    }
+
+    private Optional<SalaryAggregate> fetchSalaryAggregates() {
+        try {
+            ApiResponse<SalaryAggregate> response = restClient
+                    .get()
+                    .uri(uri -> uri.path(SALARY_AGGREGATES_PATH).queryParam("top", TOP_EARNERS_LIMIT).build())
+                    .retrieve()
+                    .body(SALARY_AGGREGATE);
+            return Optional.ofNullable(Objects.requireNonNull(response).data());
+        } catch (HttpClientErrorException.NotFound ex) {
+            salaryAggregatesSupported = false;
+            logger.info("Upstream has no salary aggregate endpoint; aggregating its employee list instead");
+            return Optional.empty();
+        }
+    }
+
+    private SalaryAggregate streamSalaryAggregate() {
+        SalaryAggregate aggregate = restClient
+                .get()
+                .uri(uri -> uri.queryParam("fields", SALARY_FIELDS).build())
+                .retrieve()
+                .body(SalaryAggregate.class);
+        return Objects.requireNonNull(aggregate);
+    }
+
+    private record ListValidator(String etag, List<Employee> employees) {}
 }
@@ -1,8 +1,10 @@
 package com.reliaquest.api.service;
 
 import com.reliaquest.api.dto.EmployeeRequestDTO;
+import com.reliaquest.api.model.DataFreshness;
 import com.reliaquest.api.model.Employee;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface IEmployeeService {
@@ -20,4 +22,9 @@ public interface IEmployeeService {
     Employee createEmployee(EmployeeRequestDTO input);
 
     void deleteEmployeeById(UUID id);
+
+    /**
+     * Freshness of the data backing list, search and salary reads, if they are served from a local copy.
+     */
+    Optional<DataFreshness> getDataFreshness();
 }
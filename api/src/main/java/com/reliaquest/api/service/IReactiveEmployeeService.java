@@ -0,0 +1,31 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.dto.EmployeeRequestDTO;
+import com.reliaquest.api.model.DataFreshness;
+import com.reliaquest.api.model.Employee;
+import java.util.Optional;
+import java.util.UUID;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link IEmployeeService}.
+ */
+public interface IReactiveEmployeeService {
+
+    Flux<Employee> getAllEmployees();
+
+    Flux<Employee> getEmployeesByNameSearch(String searchString);
+
+    Mono<Employee> getEmployeeById(UUID id);
+
+    Mono<Integer> getHighestSalary();
+
+    Flux<String> getTopTenHighestEarningEmployeeNames();
+
+    Mono<Employee> createEmployee(EmployeeRequestDTO input);
+
+    Mono<Void> deleteEmployeeById(UUID id);
+
+    Optional<DataFreshness> getDataFreshness();
+}
@@ -0,0 +1,247 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.EmployeeCacheSettings;
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.cache.NameIndex;
+import com.reliaquest.api.cache.SingleFlight;
+import com.reliaquest.api.dto.DeleteEmployeeRequestDTO;
+import com.reliaquest.api.dto.EmployeeRequestDTO;
+import com.reliaquest.api.exception.EmployeeException;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.DataFreshness;
+import com.reliaquest.api.model.Employee;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.MessageSource;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link IReactiveEmployeeService} on top of {@code employeeWebClient}. Reads are served from an
+ * {@link EmployeeSnapshotCache} and its indexes exactly as in the blocking implementation; only one of the two services
+ * is active, and this one builds its own cache. Loads and writes complete on the client's event loop.
+ */
+@Service
+@ConditionalOnProperty(name = "employee.client.mode", havingValue = "reactive")
+public class ReactiveEmployeeServiceImpl implements IReactiveEmployeeService {
+
+    private static final String ALL_EMPLOYEES_KEY = "all";
+
+    private static final int TOP_EARNERS_LIMIT = 10;
+
+    private static final ParameterizedTypeReference<ApiResponse<List<Employee>>> EMPLOYEE_LIST =
+            new ParameterizedTypeReference<>() {};
+
+    private static final ParameterizedTypeReference<ApiResponse<Employee>> EMPLOYEE =
+            new ParameterizedTypeReference<>() {};
+
+    private static final ParameterizedTypeReference<ApiResponse<Boolean>> DELETED =
+            new ParameterizedTypeReference<>() {};
+
+    private final WebClient webClient;
+
+    private final MessageSource messageSource;
+
+    private final EmployeeSnapshotCache snapshotCache;
+
+    private final SingleFlight<String, List<Employee>> allEmployeesFlight = new SingleFlight<>("employees.all");
+
+    private final SingleFlight<UUID, Employee> employeeByIdFlight = new SingleFlight<>("employees.byId");
+
+    public ReactiveEmployeeServiceImpl(
+            @Qualifier("employeeWebClient") WebClient webClient,
+            MessageSource messageSource,
+            EmployeeCacheSettings cacheSettings) {
+        this.webClient = webClient;
+        this.messageSource = messageSource;
+        // Background refreshes run on the cache's own thread, where blocking is fine.
+        this.snapshotCache =
+                new EmployeeSnapshotCache(() -> fetchAllEmployees().block(), cacheSettings, Clock.systemUTC());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startSnapshotCache() {
+        snapshotCache.start();
+    }
+
+    @PreDestroy
+    public void stopSnapshotCache() {
+        snapshotCache.stop();
+    }
+
+    public List<SingleFlight.Stats> upstreamCoalescingStats() {
+        return List.of(allEmployeesFlight.stats(), employeeByIdFlight.stats());
+    }
+
+    @Override
+    public Flux<Employee> getAllEmployees() {
+        return snapshot().flatMapIterable(EmployeeSnapshot::employees);
+    }
+
+    @Override
+    public Flux<Employee> getEmployeesByNameSearch(String searchString) {
+        return snapshot().flatMapIterable(snapshot -> snapshot.nameIndex().search(searchString));
+    }
+
+    @Override
+    public Mono<Employee> getEmployeeById(UUID id) {
+        Locale locale = LocaleContextHolder.getLocale();
+        return Mono.defer(() -> snapshotCache
+                        .peek()
+                        .flatMap(snapshot -> snapshot.findById(id))
+                        .map(Mono::just)
+                        .orElseGet(() -> fetchEmployeeById(id)))
+                .switchIfEmpty(Mono.error(() -> notFound(id, locale)));
+    }
+
+    @Override
+    public Mono<Integer> getHighestSalary() {
+        return snapshot().map(snapshot -> snapshot.salaryIndex().highestSalary());
+    }
+
+    @Override
+    public Flux<String> getTopTenHighestEarningEmployeeNames() {
+        return snapshot()
+                .flatMapIterable(snapshot -> snapshot.salaryIndex().top(TOP_EARNERS_LIMIT))
+                .map(Employee::name);
+    }
+
+    @Override
+    public Mono<Employee> createEmployee(EmployeeRequestDTO input) {
+        return webClient
+                .post()
+                .bodyValue(input)
+                .retrieve()
+                .bodyToMono(EMPLOYEE)
+                .mapNotNull(ApiResponse::data)
+                .doOnNext(snapshotCache::onCreated);
+    }
+
+    /**
+     * Same lookups as the blocking delete: the snapshot when one is usable, otherwise the employee by id and its name
+     * queried upstream, never a load of the whole list.
+     */
+    @Override
+    public Mono<Void> deleteEmployeeById(UUID id) {
+        // Resolved on the calling thread; the rest of the chain runs on the event loop.
+        Locale locale = LocaleContextHolder.getLocale();
+        return Mono.defer(() -> {
+            Optional<EmployeeSnapshot> snapshot = snapshotCache.usable();
+            return snapshot.flatMap(usable -> usable.findById(id))
+                    .map(Mono::just)
+                    .orElseGet(() -> fetchEmployeeById(id))
+                    .switchIfEmpty(Mono.error(() -> notFound(id, locale)))
+                    .flatMap(employee -> sameName(snapshot, employee.name())
+                            .flatMap(sameName -> delete(employee, sameName, locale)));
+        });
+    }
+
+    @Override
+    public Optional<DataFreshness> getDataFreshness() {
+        return snapshotCache.freshness();
+    }
+
+    private EmployeeNotFoundException notFound(UUID id, Locale locale) {
+        return new EmployeeNotFoundException(messageSource.getMessage("employee.notFound", new Object[] {id}, locale));
+    }
+
+    private Mono<List<Employee>> sameName(Optional<EmployeeSnapshot> snapshot, String name) {
+        return snapshot.map(usable -> Mono.just(usable.nameIndex().findByName(name)))
+                .orElseGet(() -> webClient
+                        .get()
+                        .uri(uri -> uri.queryParam("name", name).build())
+                        .retrieve()
+                        .bodyToMono(EMPLOYEE_LIST)
+                        .mapNotNull(ApiResponse::data)
+                        .defaultIfEmpty(List.of()));
+    }
+
+    /**
+     * {@code sameName} may hold more than the namesakes, since an upstream that does not filter by name answers with
+     * the whole list; the names are matched here.
+     */
+    private Mono<Void> delete(Employee employee, List<Employee> sameName, Locale locale) {
+        String empName = employee.name();
+        String folded = NameIndex.fold(empName);
+        boolean duplicateName = sameName.stream()
+                .anyMatch(other -> !employee.id().equals(other.id())
+                        && NameIndex.fold(other.name()).equals(folded));
+        if (duplicateName) {
+            return Mono.error(new EmployeeException(
+                    messageSource.getMessage("employee.name.duplicate", new Object[] {empName}, locale)));
+        }
+        return webClient
+                .method(HttpMethod.DELETE)
+                .bodyValue(new DeleteEmployeeRequestDTO(empName))
+                .retrieve()
+                .bodyToMono(DELETED)
+                .flatMap(response -> {
+                    if (!Boolean.TRUE.equals(response.data())) {
+                        return Mono.error(new EmployeeException(messageSource.getMessage(
+                                "employee.delete.failed", new Object[] {employee.id()}, locale)));
+                    }
+                    snapshotCache.onDeleted(employee.id());
+                    return Mono.<Void>empty();
+                });
+    }
+
+    /**
+     * A usable snapshot if there is one, otherwise a non-blocking load that falls back to a stale snapshot on failure.
+     */
+    private Mono<EmployeeSnapshot> snapshot() {
+        return Mono.defer(() -> snapshotCache.usable().map(Mono::just).orElseGet(this::reload));
+    }
+
+    private Mono<EmployeeSnapshot> reload() {
+        return Mono.defer(() -> {
+                    EmployeeSnapshotCache.Load load = snapshotCache.beginLoad();
+                    return fetchAllEmployees().map(load::install).doFinally(signal -> load.close());
+                })
+                .onErrorResume(
+                        RuntimeException.class,
+                        ex -> snapshotCache.fallback(ex).map(Mono::just).orElseGet(() -> Mono.error(ex)));
+    }
+
+    private Mono<List<Employee>> fetchAllEmployees() {
+        return Mono.fromFuture(
+                () -> allEmployeesFlight.executeAsync(ALL_EMPLOYEES_KEY, () -> webClient
+                        .get()
+                        .retrieve()
+                        .bodyToMono(EMPLOYEE_LIST)
+                        .map(ApiResponse::data)
+                        .toFuture()),
+                true);
+    }
+
+    /**
+     * Completes empty when the upstream does not know the id.
+     */
+    private Mono<Employee> fetchEmployeeById(UUID id) {
+        return Mono.fromFuture(
+                () -> employeeByIdFlight.executeAsync(id, () -> webClient
+                        .get()
+                        .uri("/{id}", id)
+                        .retrieve()
+                        .bodyToMono(EMPLOYEE)
+                        .mapNotNull(ApiResponse::data)
+                        .onErrorResume(WebClientResponseException.NotFound.class, ex -> Mono.empty())
+                        .toFuture()),
+                true);
+    }
+}
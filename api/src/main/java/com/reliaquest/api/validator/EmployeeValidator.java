@@ -4,32 +4,66 @@ import com.reliaquest.api.constant.ValidatorConstants;
 import com.reliaquest.api.dto.EmployeeRequestDTO;
 import com.reliaquest.api.exception.EmployeeException;
 import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+/**
+ * Checks request input before it reaches the service. Valid input is checked without allocating; messages are only
+ * resolved for rejected input, and then cached per locale.
+ */
 @Component
 public class EmployeeValidator {
 
+    private static final int UUID_LENGTH = 36;
+
+    private static final int MIN_AGE = 16;
+
+    private static final int MAX_AGE = 75;
+
+    /**
+     * The locale comes from the client's Accept-Language, so only this many locales get their messages cached; any
+     * others are resolved on each rejection.
+     */
+    private static final int MAX_CACHED_LOCALES = 16;
+
     private final MessageSource messageSource;
 
+    private final Map<Locale, Map<String, String>> messages = new ConcurrentHashMap<>();
+
     @Autowired
     public EmployeeValidator(MessageSource messageSource) {
         this.messageSource = messageSource;
     }
 
-    public void validateUUID(String id) {
-        isEmpty(id, "employee.id.notBlank", LocaleContextHolder.getLocale(), messageSource);
-        if (!id.matches(ValidatorConstants.UUID_VALIDATOR)) {
-            throw new EmployeeException(
-                    messageSource.getMessage("employee.id.invalidUUID", null, LocaleContextHolder.getLocale()));
+    /**
+     * Parses {@code id} in the same pass that validates it, so callers need not parse it again. Accepts what
+     * {@link ValidatorConstants#UUID_VALIDATOR} accepts: the canonical 8-4-4-4-12 hex form with version 1 to 5 and
+     * the RFC 4122 variant.
+     *
+     * @return the parsed id
+     * @throws EmployeeException if {@code id} is blank or not such a UUID
+     */
+    public UUID validateUUID(String id) {
+        if (!StringUtils.hasText(id)) {
+            throw rejection("employee.id.notBlank");
+        }
+        UUID uuid = parseUUID(id);
+        if (uuid == null) {
+            throw rejection("employee.id.invalidUUID");
         }
+        return uuid;
     }
 
     public void validateEmployeeName(String empName) {
-        isEmpty(empName, "employee.name.notBlank", LocaleContextHolder.getLocale(), messageSource);
+        if (!StringUtils.hasText(empName)) {
+            throw rejection("employee.name.notBlank");
+        }
     }
 
     public void validateEmployeeRequest(EmployeeRequestDTO input) {
@@ -39,38 +73,93 @@ public class EmployeeValidator {
         validateTitle(input.title());
     }
 
-    private static void isEmpty(Object value, String msgProp, Locale locale, MessageSource messageSource) {
-        boolean isEmpty = (value == null)
-                || (value instanceof String str && !StringUtils.hasText(str))
-                || (value instanceof Number num && num.doubleValue() == 0.0)
-                || (value instanceof Boolean bool && !bool);
-        if (isEmpty) {
-            String message = messageSource.getMessage(msgProp, null, locale);
-            throw new EmployeeException(message);
-        }
-    }
-
     public void validateSalary(Integer salary) {
-        isEmpty(salary, "employee.salary.notBlank", LocaleContextHolder.getLocale(), messageSource);
-        if (salary == null || salary <= 0) {
-            throw new EmployeeException(
-                    messageSource.getMessage("employee.salary.positive", null, LocaleContextHolder.getLocale()));
+        if (salary == null || salary == 0) {
+            throw rejection("employee.salary.notBlank");
+        }
+        if (salary < 0) {
+            throw rejection("employee.salary.positive");
         }
     }
 
     public void validateAge(Integer age) {
-        isEmpty(age, "employee.age.notBlank", LocaleContextHolder.getLocale(), messageSource);
-        if (age == null || age < 16 || age > 75) {
-            throw new EmployeeException(
-                    messageSource.getMessage("employee.age.range", null, LocaleContextHolder.getLocale()));
+        if (age == null || age == 0) {
+            throw rejection("employee.age.notBlank");
+        }
+        if (age < MIN_AGE || age > MAX_AGE) {
+            throw rejection("employee.age.range");
         }
     }
 
     public void validateTitle(String title) {
-        isEmpty(title, "employee.title.notBlank", LocaleContextHolder.getLocale(), messageSource);
         if (!StringUtils.hasText(title)) {
-            throw new EmployeeException(
-                    messageSource.getMessage("employee.title.notBlank", null, LocaleContextHolder.getLocale()));
+            throw rejection("employee.title.notBlank");
+        }
+    }
+
+    /**
+     * Returns null rather than throwing so that the scan stays a plain loop over the characters.
+     */
+    static UUID parseUUID(String id) {
+        if (id.length() != UUID_LENGTH) {
+            return null;
+        }
+        long mostSigBits = 0;
+        long leastSigBits = 0;
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            char c = id.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return null;
+                }
+                continue;
+            }
+            int digit = hexDigit(c);
+            if (digit < 0) {
+                return null;
+            }
+            if (i < 18) {
+                mostSigBits = (mostSigBits << 4) | digit;
+            } else {
+                leastSigBits = (leastSigBits << 4) | digit;
+            }
+        }
+        long version = (mostSigBits >>> 12) & 0xF;
+        if (version < 1 || version > 5 || (leastSigBits >>> 62) != 2) {
+            return null;
+        }
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private static int hexDigit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    private EmployeeException rejection(String code) {
+        Locale locale = LocaleContextHolder.getLocale();
+        Map<String, String> cached = messages.get(locale);
+        if (cached == null) {
+            if (messages.size() >= MAX_CACHED_LOCALES) {
+                return new EmployeeException(messageSource.getMessage(code, null, locale));
+            }
+            cached = messages.computeIfAbsent(locale, ignored -> new ConcurrentHashMap<>());
+        }
+        String message = cached.get(code);
+        if (message == null) {
+            message = messageSource.getMessage(code, null, locale);
+            if (message != null) {
+                cached.put(code, message);
+            }
         }
+        return new EmployeeException(message);
     }
 }
@@ -1,13 +1,30 @@
 package com.reliaquest.api;
 
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.validator.EmployeeValidator;
 import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 @SpringBootTest
 class ApiApplicationTest {
 
+    @Autowired
+    private EmployeeValidator employeeValidator;
+
     @Test
     void someTest() {
         // do the thing here
     }
+
+    /**
+     * The validator benchmarks construct the validator directly, which only measures what requests run while no aspect
+     * wraps the bean.
+     */
+    @Test
+    void testEmployeeValidator_shouldNotBeProxied() {
+        assertFalse(AopUtils.isAopProxy(employeeValidator));
+    }
 }
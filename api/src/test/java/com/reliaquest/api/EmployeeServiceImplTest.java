@@ -4,23 +4,45 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.reliaquest.api.cache.EmployeeCacheSettings;
+import com.reliaquest.api.client.BatchSettings;
+import com.reliaquest.api.client.EmployeeFetchSettings;
 import com.reliaquest.api.dto.DeleteEmployeeRequestDTO;
 import com.reliaquest.api.dto.EmployeeRequestDTO;
+import com.reliaquest.api.exception.EmployeeException;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.model.ApiResponse;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.model.EmployeeChanges;
+import com.reliaquest.api.model.SalaryAggregate;
 import com.reliaquest.api.service.EmployeeServiceImpl;
+import java.net.URI;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.MessageSource;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.util.UriBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
 
 @SuppressWarnings({"unchecked", "rawtypes"})
 @SpringBootTest
@@ -49,7 +71,7 @@ public class EmployeeServiceImplTest {
 
         when(restClient.get()).thenReturn(uriSpec);
         when(uriSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.body(any(ParameterizedTypeReference.class))).thenReturn(apiResponse);
+        when(responseSpec.toEntity(any(ParameterizedTypeReference.class))).thenReturn(ResponseEntity.ok(apiResponse));
 
         List<Employee> result = employeeService.getAllEmployees();
 
@@ -65,11 +87,134 @@ public class EmployeeServiceImplTest {
 
         when(restClient.get()).thenReturn(uriSpec);
         when(uriSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.body(any(ParameterizedTypeReference.class))).thenReturn(null);
+        when(responseSpec.toEntity(any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok().build());
 
         assertThrows(NullPointerException.class, () -> employeeService.getAllEmployees());
     }
 
+    @Test
+    void testGetAllEmployees_shouldReuseList_whenUpstreamAnswersNotModified() {
+        EmployeeServiceImpl uncachedService = new EmployeeServiceImpl(
+                restClient,
+                messageSource,
+                new EmployeeCacheSettings(Duration.ZERO, Duration.ZERO, Duration.ZERO, false),
+                EmployeeFetchSettings.defaults(),
+                BatchSettings.defaults(),
+                BatchSettings.defaults());
+        RestClient.RequestHeadersUriSpec uriSpec = mock(RestClient.RequestHeadersUriSpec.class);
+        RestClient.RequestHeadersSpec conditionalSpec = mock(RestClient.RequestHeadersSpec.class);
+        RestClient.ResponseSpec responseSpec = mock(RestClient.ResponseSpec.class);
+        RestClient.ResponseSpec notModifiedSpec = mock(RestClient.ResponseSpec.class);
+        when(restClient.get()).thenReturn(uriSpec);
+        when(uriSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.toEntity(any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok().eTag("\"v7\"").body(new ApiResponse<>(List.of(employee), "Success")));
+        when(uriSpec.ifNoneMatch("\"v7\"")).thenReturn(conditionalSpec);
+        when(conditionalSpec.retrieve()).thenReturn(notModifiedSpec);
+        when(notModifiedSpec.toEntity(any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+
+        List<Employee> loaded = uncachedService.getAllEmployees();
+        List<Employee> revalidated = uncachedService.getAllEmployees();
+
+        verify(uriSpec).ifNoneMatch("\"v7\"");
+        assertSame(loaded, revalidated);
+        uncachedService.stopSnapshotCache();
+    }
+
+    @Test
+    void testGetAllEmployees_shouldCatchUpWithChangeFeed_insteadOfReloadingTheList() {
+        EmployeeServiceImpl uncachedService = new EmployeeServiceImpl(
+                restClient,
+                messageSource,
+                new EmployeeCacheSettings(Duration.ZERO, Duration.ZERO, Duration.ZERO, false),
+                EmployeeFetchSettings.defaults(),
+                BatchSettings.defaults(),
+                BatchSettings.defaults());
+        Employee hired = new Employee(UUID.randomUUID(), "Jane Roe", 70000, 29, "Engineer", "jane@example.com");
+        RestClient.RequestHeadersUriSpec uriSpec = mock(RestClient.RequestHeadersUriSpec.class);
+        RestClient.RequestHeadersSpec changesSpec = mock(RestClient.RequestHeadersSpec.class);
+        RestClient.ResponseSpec responseSpec = mock(RestClient.ResponseSpec.class);
+        RestClient.ResponseSpec changesResponseSpec = mock(RestClient.ResponseSpec.class);
+        when(restClient.get()).thenReturn(uriSpec);
+        when(uriSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.toEntity(any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok()
+                        .header("X-Data-Version", "e1-3")
+                        .body(new ApiResponse<>(List.of(employee), "Success")));
+        when(uriSpec.uri(any(Function.class))).thenReturn(changesSpec);
+        when(changesSpec.retrieve()).thenReturn(changesResponseSpec);
+        when(changesResponseSpec.body(any(ParameterizedTypeReference.class)))
+                .thenReturn(new ApiResponse<>(
+                        new EmployeeChanges(
+                                "e1-5",
+                                List.of(
+                                        new EmployeeChange(4, EmployeeChange.Type.CREATED, hired),
+                                        new EmployeeChange(5, EmployeeChange.Type.DELETED, employee))),
+                        "Success"))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.GONE, "Gone", null, null, null));
+
+        uncachedService.getAllEmployees();
+        List<Employee> caughtUp = uncachedService.getAllEmployees();
+        ArgumentCaptor<Function<UriBuilder, URI>> uriCaptor = ArgumentCaptor.forClass(Function.class);
+        verify(uriSpec).uri(uriCaptor.capture());
+        URI changesUri = uriCaptor.getValue().apply(UriComponentsBuilder.newInstance());
+        List<Employee> reloaded = uncachedService.getAllEmployees();
+
+        assertEquals("/changes", changesUri.getPath());
+        assertEquals("since=e1-3", changesUri.getQuery());
+        assertEquals(List.of(hired), caughtUp);
+        assertEquals(List.of(employee), reloaded);
+        verify(uriSpec, times(2)).retrieve();
+        uncachedService.stopSnapshotCache();
+    }
+
+    @Test
+    void testGetAllEmployees_shouldReloadAndFollowTheNewCursor_whenUpstreamRestarted() {
+        EmployeeServiceImpl uncachedService = new EmployeeServiceImpl(
+                restClient,
+                messageSource,
+                new EmployeeCacheSettings(Duration.ZERO, Duration.ZERO, Duration.ZERO, false),
+                EmployeeFetchSettings.defaults(),
+                BatchSettings.defaults(),
+                BatchSettings.defaults());
+        Employee hired = new Employee(UUID.randomUUID(), "Jane Roe", 70000, 29, "Engineer", "jane@example.com");
+        RestClient.RequestHeadersUriSpec uriSpec = mock(RestClient.RequestHeadersUriSpec.class);
+        RestClient.RequestHeadersSpec changesSpec = mock(RestClient.RequestHeadersSpec.class);
+        RestClient.ResponseSpec responseSpec = mock(RestClient.ResponseSpec.class);
+        RestClient.ResponseSpec changesResponseSpec = mock(RestClient.ResponseSpec.class);
+        when(restClient.get()).thenReturn(uriSpec);
+        when(uriSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.toEntity(any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok()
+                        .header("X-Data-Version", "e1-3")
+                        .body(new ApiResponse<>(List.of(employee), "Success")))
+                .thenReturn(ResponseEntity.ok()
+                        .header("X-Data-Version", "e2-1")
+                        .body(new ApiResponse<>(List.of(hired), "Success")));
+        when(uriSpec.uri(any(Function.class))).thenReturn(changesSpec);
+        when(changesSpec.retrieve()).thenReturn(changesResponseSpec);
+        when(changesResponseSpec.body(any(ParameterizedTypeReference.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.GONE, "Gone", null, null, null))
+                .thenReturn(new ApiResponse<>(new EmployeeChanges("e2-1", List.of()), "Success"));
+
+        uncachedService.getAllEmployees();
+        List<Employee> reloaded = uncachedService.getAllEmployees();
+        List<Employee> caughtUp = uncachedService.getAllEmployees();
+        ArgumentCaptor<Function<UriBuilder, URI>> uriCaptor = ArgumentCaptor.forClass(Function.class);
+        verify(uriSpec, times(2)).uri(uriCaptor.capture());
+        List<String> queries = uriCaptor.getAllValues().stream()
+                .map(uri -> uri.apply(UriComponentsBuilder.newInstance()).getQuery())
+                .toList();
+
+        assertEquals(List.of("since=e1-3", "since=e2-1"), queries);
+        assertEquals(List.of(hired), reloaded);
+        assertEquals(List.of(hired), caughtUp);
+        verify(uriSpec, times(2)).retrieve();
+        uncachedService.stopSnapshotCache();
+    }
+
     @Test
     void testGetEmployeeById_shouldReturnEmployee_whenValidIdProvided() {
         RestClient.RequestHeadersUriSpec uriSpec = mock(RestClient.RequestHeadersUriSpec.class);
@@ -133,7 +278,22 @@ public class EmployeeServiceImplTest {
         when(uriSpec.uri("/{id}", id)).thenReturn(uriSpec);
         when(uriSpec.retrieve()).thenReturn(responseSpec);
         when(responseSpec.body(any(ParameterizedTypeReference.class))).thenReturn(apiResponse);
-        assertNull(employeeService.getEmployeeById(id));
+        assertThrows(EmployeeNotFoundException.class, () -> employeeService.getEmployeeById(id));
+    }
+
+    @Test
+    void testGetEmployeeById_shouldThrowNotFound_whenUpstreamAnswers404() {
+        UUID id = UUID.randomUUID();
+        RestClient.RequestHeadersUriSpec uriSpec = mock(RestClient.RequestHeadersUriSpec.class);
+        RestClient.ResponseSpec responseSpec = mock(RestClient.ResponseSpec.class);
+
+        when(restClient.get()).thenReturn(uriSpec);
+        when(uriSpec.uri("/{id}", id)).thenReturn(uriSpec);
+        when(uriSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.body(any(ParameterizedTypeReference.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+
+        assertThrows(EmployeeNotFoundException.class, () -> employeeService.getEmployeeById(id));
     }
 
     @Test
@@ -144,6 +304,7 @@ public class EmployeeServiceImplTest {
         RestClient.ResponseSpec responseSpec = mock(RestClient.ResponseSpec.class);
 
         when(restClient.get()).thenReturn(uriSpec);
+        when(uriSpec.uri(any(Function.class))).thenReturn(uriSpec);
         when(uriSpec.retrieve()).thenReturn(responseSpec);
         when(responseSpec.body(any(ParameterizedTypeReference.class)))
                 .thenReturn(new ApiResponse<>(List.of(e1, e2), "success"));
@@ -152,6 +313,10 @@ public class EmployeeServiceImplTest {
 
         assertEquals(1, result.size());
         assertEquals("Alice Smith", result.get(0).name());
+        ArgumentCaptor<Function<UriBuilder, URI>> uri = ArgumentCaptor.forClass(Function.class);
+        verify(uriSpec).uri(uri.capture());
+        URI pushedDown = uri.getValue().apply(UriComponentsBuilder.fromUriString("http://upstream/api/v1/employee"));
+        assertEquals("name=Alice", pushedDown.getQuery());
     }
 
     @Test
@@ -162,6 +327,7 @@ public class EmployeeServiceImplTest {
         RestClient.ResponseSpec responseSpec = mock(RestClient.ResponseSpec.class);
 
         when(restClient.get()).thenReturn(uriSpec);
+        when(uriSpec.uri(any(Function.class))).thenReturn(uriSpec);
         when(uriSpec.retrieve()).thenReturn(responseSpec);
         when(responseSpec.body(any(ParameterizedTypeReference.class)))
                 .thenReturn(new ApiResponse<>(List.of(e1), "success"));
@@ -177,6 +343,7 @@ public class EmployeeServiceImplTest {
         RestClient.RequestHeadersUriSpec uriSpec = mock(RestClient.RequestHeadersUriSpec.class);
         RestClient.ResponseSpec responseSpec = mock(RestClient.ResponseSpec.class);
         when(restClient.get()).thenReturn(uriSpec);
+        when(uriSpec.uri(any(Function.class))).thenReturn(uriSpec);
         when(uriSpec.retrieve()).thenReturn(responseSpec);
         when(responseSpec.body(any(ParameterizedTypeReference.class)))
                 .thenReturn(new ApiResponse<>(Collections.emptyList(), "success"));
@@ -190,6 +357,7 @@ public class EmployeeServiceImplTest {
         RestClient.RequestHeadersUriSpec uriSpec = mock(RestClient.RequestHeadersUriSpec.class);
         RestClient.ResponseSpec responseSpec = mock(RestClient.ResponseSpec.class);
         when(restClient.get()).thenReturn(uriSpec);
+        when(uriSpec.uri(any(Function.class))).thenReturn(uriSpec);
         when(uriSpec.retrieve()).thenReturn(responseSpec);
         when(responseSpec.body(any(ParameterizedTypeReference.class))).thenReturn(null);
         assertThrows(NullPointerException.class, () -> employeeService.getEmployeesByNameSearch("Alice"));
@@ -246,30 +414,22 @@ public class EmployeeServiceImplTest {
     }
 
     @Test
-    void testDeleteEmployeeById_shouldDelete_whenSingleEmployeeExists() {
+    void testDeleteEmployeeById_shouldDelete_withSingleUpstreamCall_whenSnapshotIsWarm() {
         UUID id = UUID.randomUUID();
         String name = "John Doe";
 
         Employee employeeById = new Employee(id, name, 50000, 30, "Engineer", "john@example.com");
-        ApiResponse<Employee> getByIdResponse = new ApiResponse<>(employeeById, "Success");
-        List<Employee> employeeList = List.of(employeeById);
-        ApiResponse<List<Employee>> getAllResponse = new ApiResponse<>(employeeList, "Success");
+        Employee other = new Employee(UUID.randomUUID(), "Jane Doe", 60000, 31, "Engineer", "jane@example.com");
+        ApiResponse<List<Employee>> getAllResponse = new ApiResponse<>(List.of(employeeById, other), "Success");
         ApiResponse<Boolean> deleteResponse = new ApiResponse<>(true, "Deleted");
 
-        // GET /employee/{id}
-        RestClient.RequestHeadersUriSpec uriSpecId = mock(RestClient.RequestHeadersUriSpec.class);
-        RestClient.ResponseSpec responseSpecId = mock(RestClient.ResponseSpec.class);
-        when(restClient.get()).thenReturn(uriSpecId);
-        when(uriSpecId.uri("/{id}", id)).thenReturn(uriSpecId);
-        when(uriSpecId.retrieve()).thenReturn(responseSpecId);
-        when(responseSpecId.body(any(ParameterizedTypeReference.class))).thenReturn(getByIdResponse);
-
         // GET /employee (all)
         RestClient.RequestHeadersUriSpec uriSpecAll = mock(RestClient.RequestHeadersUriSpec.class);
         RestClient.ResponseSpec responseSpecAll = mock(RestClient.ResponseSpec.class);
         when(restClient.get()).thenReturn(uriSpecAll);
         when(uriSpecAll.retrieve()).thenReturn(responseSpecAll);
-        when(responseSpecAll.body(any(ParameterizedTypeReference.class))).thenReturn(getAllResponse);
+        when(responseSpecAll.toEntity(any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(getAllResponse));
 
         // DELETE /employee
         RestClient.RequestBodyUriSpec deleteUriSpec = mock(RestClient.RequestBodyUriSpec.class);
@@ -281,6 +441,118 @@ public class EmployeeServiceImplTest {
         when(deleteBodySpec.retrieve()).thenReturn(deleteResponseSpec);
         when(deleteResponseSpec.body(any(ParameterizedTypeReference.class))).thenReturn(deleteResponse);
 
-        assertThrows(NullPointerException.class, () -> employeeService.deleteEmployeeById(id));
+        employeeService.getAllEmployees();
+        employeeService.deleteEmployeeById(id);
+
+        verify(restClient, times(1)).get();
+        verify(deleteUriSpec).body(new DeleteEmployeeRequestDTO(name));
+        assertEquals(List.of(other), employeeService.getAllEmployees());
+    }
+
+    @Test
+    void testDeleteEmployeeById_shouldReject_whenNameIsShared() {
+        UUID id = UUID.randomUUID();
+        Employee first = new Employee(id, "John Doe", 50000, 30, "Engineer", "john@example.com");
+        Employee second = new Employee(UUID.randomUUID(), "JOHN DOE", 60000, 40, "Manager", "jd@example.com");
+        RestClient.RequestHeadersUriSpec uriSpec = mock(RestClient.RequestHeadersUriSpec.class);
+        RestClient.ResponseSpec responseSpec = mock(RestClient.ResponseSpec.class);
+        when(restClient.get()).thenReturn(uriSpec);
+        when(uriSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.toEntity(any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new ApiResponse<>(List.of(first, second), "Success")));
+
+        employeeService.getAllEmployees();
+
+        assertThrows(EmployeeException.class, () -> employeeService.deleteEmployeeById(id));
+        verify(restClient, never()).method(HttpMethod.DELETE);
+    }
+
+    @Test
+    void testDeleteEmployeeById_shouldLookUpIdAndName_insteadOfLoadingTheList_whenCacheIsCold() {
+        UUID id = UUID.randomUUID();
+        Employee target = new Employee(id, "John Doe", 50000, 30, "Engineer", "john@example.com");
+        Employee namesake = new Employee(UUID.randomUUID(), "John Doest", 60000, 40, "Manager", "jd@example.com");
+        RestClient.RequestHeadersUriSpec uriSpec = mock(RestClient.RequestHeadersUriSpec.class);
+        RestClient.ResponseSpec responseSpec = mock(RestClient.ResponseSpec.class);
+        when(restClient.get()).thenReturn(uriSpec);
+        when(uriSpec.uri("/{id}", id)).thenReturn(uriSpec);
+        when(uriSpec.uri(any(Function.class))).thenReturn(uriSpec);
+        when(uriSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.body(any(ParameterizedTypeReference.class)))
+                .thenReturn(new ApiResponse<>(target, "Success"))
+                .thenReturn(new ApiResponse<>(List.of(target, namesake), "Success"));
+        RestClient.RequestBodyUriSpec deleteUriSpec = mock(RestClient.RequestBodyUriSpec.class);
+        RestClient.RequestBodySpec deleteBodySpec = mock(RestClient.RequestBodySpec.class);
+        RestClient.ResponseSpec deleteResponseSpec = mock(RestClient.ResponseSpec.class);
+        when(restClient.method(HttpMethod.DELETE)).thenReturn(deleteUriSpec);
+        when(deleteUriSpec.body(any(DeleteEmployeeRequestDTO.class))).thenReturn(deleteBodySpec);
+        when(deleteBodySpec.retrieve()).thenReturn(deleteResponseSpec);
+        when(deleteResponseSpec.body(any(ParameterizedTypeReference.class)))
+                .thenReturn(new ApiResponse<>(true, "Deleted"));
+
+        employeeService.deleteEmployeeById(id);
+
+        verify(deleteUriSpec).body(new DeleteEmployeeRequestDTO("John Doe"));
+        verify(responseSpec, times(2)).body(any(ParameterizedTypeReference.class));
+        verify(uriSpec).uri(any(Function.class));
+    }
+
+    @Test
+    void testGetHighestSalary_shouldUseAggregateEndpoint_onColdCache() {
+        RestClient.RequestHeadersUriSpec uriSpec = mock(RestClient.RequestHeadersUriSpec.class);
+        RestClient.ResponseSpec responseSpec = mock(RestClient.ResponseSpec.class);
+        when(restClient.get()).thenReturn(uriSpec);
+        when(uriSpec.uri(any(Function.class))).thenReturn(uriSpec);
+        when(uriSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.body(any(ParameterizedTypeReference.class)))
+                .thenReturn(new ApiResponse<>(new SalaryAggregate(90000, List.of("John Doe")), "Success"));
+
+        assertEquals(90000, employeeService.getHighestSalary());
+        assertEquals(List.of("John Doe"), employeeService.getTopTenHighestEarningEmployeeNames());
+        verify(responseSpec, never()).body(SalaryAggregate.class);
+    }
+
+    @Test
+    void testGetHighestSalary_shouldStreamList_onceAggregateEndpointIsMissing() {
+        RestClient.RequestHeadersUriSpec uriSpec = mock(RestClient.RequestHeadersUriSpec.class);
+        RestClient.ResponseSpec responseSpec = mock(RestClient.ResponseSpec.class);
+        when(restClient.get()).thenReturn(uriSpec);
+        when(uriSpec.uri(any(Function.class))).thenReturn(uriSpec);
+        when(uriSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.body(any(ParameterizedTypeReference.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+        when(responseSpec.body(SalaryAggregate.class)).thenReturn(new SalaryAggregate(90000, List.of("John Doe")));
+
+        assertEquals(90000, employeeService.getHighestSalary());
+        assertEquals(90000, employeeService.getHighestSalary());
+        verify(responseSpec, times(1)).body(any(ParameterizedTypeReference.class));
+        verify(responseSpec, times(2)).body(SalaryAggregate.class);
+    }
+
+    @Test
+    void testGetEmployeeById_shouldBatchConcurrentLookups_andReportUnknownIdsAsNotFound() throws Exception {
+        employeeService = new EmployeeServiceImpl(
+                restClient,
+                messageSource,
+                EmployeeCacheSettings.defaults(),
+                EmployeeFetchSettings.defaults(),
+                BatchSettings.defaults(),
+                new BatchSettings(2, Duration.ofSeconds(30)));
+        UUID unknown = UUID.randomUUID();
+        RestClient.RequestBodyUriSpec postSpec = mock(RestClient.RequestBodyUriSpec.class);
+        RestClient.ResponseSpec responseSpec = mock(RestClient.ResponseSpec.class);
+        when(restClient.post()).thenReturn(postSpec);
+        when(postSpec.uri("/lookup")).thenReturn(postSpec);
+        when(postSpec.body(any(Object.class))).thenReturn(postSpec);
+        when(postSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.body(any(ParameterizedTypeReference.class)))
+                .thenReturn(new ApiResponse<>(List.of(employee), "Success"));
+
+        CompletableFuture<Employee> known = CompletableFuture.supplyAsync(() -> employeeService.getEmployeeById(id));
+
+        assertThrows(EmployeeNotFoundException.class, () -> employeeService.getEmployeeById(unknown));
+        assertEquals(employee, known.get(5, TimeUnit.SECONDS));
+        verify(restClient, times(1)).post();
+        verify(restClient, never()).get();
     }
 }
@@ -4,7 +4,9 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import com.reliaquest.api.dto.EmployeeRequestDTO;
+import com.reliaquest.api.exception.EmployeeException;
 import com.reliaquest.api.validator.EmployeeValidator;
+import java.util.Locale;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,6 +30,44 @@ class EmployeeValidatorTest {
         assertDoesNotThrow(() -> validator.validateUUID(validUUID));
     }
 
+    @Test
+    void testValidateUUID_shouldReturnTheParsedId_inEitherCase() {
+        UUID id = UUID.randomUUID();
+        assertEquals(id, validator.validateUUID(id.toString()));
+        assertEquals(id, validator.validateUUID(id.toString().toUpperCase()));
+    }
+
+    @Test
+    void testValidateUUID_shouldRejectWhatThePatternRejects() {
+        String[] invalid = {
+            "not-a-uuid",
+            "4a3a170b22cd-4ac2-aad1-9bb5b34a1507a",
+            "4a3a170b-22cd-4ac2-aad1-9bb5b34a150g",
+            "4a3a170b-22cd-6ac2-aad1-9bb5b34a1507",
+            "4a3a170b-22cd-4ac2-cad1-9bb5b34a1507",
+            "4a3a170b-22cd-4ac2-aad1-9bb5b34a15070",
+            " 4a3a170b-22cd-4ac2-aad1-9bb5b34a150"
+        };
+        for (String id : invalid) {
+            assertThrows(EmployeeException.class, () -> validator.validateUUID(id), id);
+        }
+    }
+
+    @Test
+    void testValidateUUID_shouldResolveTheRejectionMessageOncePerLocale() {
+        MessageSource messageSource = mock(MessageSource.class);
+        when(messageSource.getMessage(eq("employee.id.invalidUUID"), isNull(), any(Locale.class)))
+                .thenReturn("Employee ID must be a valid UUID");
+        EmployeeValidator cachingValidator = new EmployeeValidator(messageSource);
+
+        for (int i = 0; i < 3; i++) {
+            EmployeeException ex =
+                    assertThrows(EmployeeException.class, () -> cachingValidator.validateUUID("not-a-uuid"));
+            assertEquals("Employee ID must be a valid UUID", ex.getMessage());
+        }
+        verify(messageSource, times(1)).getMessage(eq("employee.id.invalidUUID"), isNull(), any(Locale.class));
+    }
+
     @Test
     void testValidateEmployeeName_valid() {
         assertDoesNotThrow(() -> validator.validateEmployeeName("John"));
@@ -0,0 +1,161 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.MutableClock;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.model.Employee;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EmployeeSnapshotCacheTest {
+
+    private final Employee alice =
+            new Employee(UUID.randomUUID(), "Alice Smith", 50000, 30, "Engineer", "alice@example.com");
+    private final Employee bob =
+            new Employee(UUID.randomUUID(), "Bob Johnson", 60000, 35, "Manager", "bob@example.com");
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private volatile RuntimeException loadFailure;
+    private MutableClock clock;
+    private EmployeeSnapshotCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        EmployeeCacheSettings settings =
+                new EmployeeCacheSettings(Duration.ofSeconds(60), Duration.ofSeconds(10), Duration.ofMinutes(5), false);
+        cache = new EmployeeSnapshotCache(
+                () -> {
+                    loads.incrementAndGet();
+                    if (loadFailure != null) {
+                        throw loadFailure;
+                    }
+                    return List.of(alice);
+                },
+                settings,
+                clock);
+    }
+
+    @Test
+    void testGet_shouldLoadOnceAndServeFromSnapshot_whileWithinTtl() {
+        EmployeeSnapshot first = cache.get();
+        clock.advance(Duration.ofSeconds(30));
+        EmployeeSnapshot second = cache.get();
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(List.of(alice), second.employees());
+    }
+
+    @Test
+    void testGet_shouldReload_whenSnapshotExpired() {
+        EmployeeSnapshot first = cache.get();
+        clock.advance(Duration.ofSeconds(61));
+        EmployeeSnapshot second = cache.get();
+
+        assertEquals(2, loads.get());
+        assertEquals(first.version() + 1, second.version());
+    }
+
+    @Test
+    void testGet_shouldServeStaleSnapshot_andHoldOffReloads_whileUpstreamIsThrottling() {
+        EmployeeSnapshot loaded = cache.get();
+        clock.advance(Duration.ofSeconds(61));
+        loadFailure = new TooManyRequestsException("Rate limit exceeded", Duration.ofSeconds(20));
+
+        assertSame(loaded, cache.get());
+        assertTrue(cache.freshness().orElseThrow().stale());
+        assertEquals(2, loads.get());
+
+        clock.advance(Duration.ofSeconds(10));
+        assertSame(loaded, cache.get());
+        assertEquals(2, loads.get());
+
+        loadFailure = null;
+        clock.advance(Duration.ofSeconds(10));
+        EmployeeSnapshot reloaded = cache.get();
+        assertEquals(loaded.version() + 1, reloaded.version());
+        assertFalse(cache.freshness().orElseThrow().stale());
+    }
+
+    @Test
+    void testGet_shouldFail_whenSnapshotIsPastMaxStale() {
+        cache.get();
+        clock.advance(Duration.ofSeconds(60).plus(Duration.ofMinutes(5)));
+        loadFailure = new TooManyRequestsException("Rate limit exceeded");
+
+        assertThrows(TooManyRequestsException.class, cache::get);
+    }
+
+    @Test
+    void testWriteThrough_shouldProduceNewVersions_withoutReloading() {
+        EmployeeSnapshot loaded = cache.get();
+
+        cache.onCreated(bob);
+        EmployeeSnapshot afterCreate = cache.get();
+        assertEquals(loaded.version() + 1, afterCreate.version());
+        assertEquals(List.of(alice, bob), afterCreate.employees());
+        assertTrue(afterCreate.findById(bob.id()).isPresent());
+
+        cache.onDeleted(alice.id());
+        EmployeeSnapshot afterDelete = cache.get();
+        assertEquals(List.of(bob), afterDelete.employees());
+        assertEquals(List.of(alice), loaded.employees());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testOnChanged_shouldApplyUpstreamChangesAsOneVersion_andKeepThemOnReinstall() {
+        EmployeeSnapshot loaded = cache.get();
+        Employee raisedAlice = new Employee(alice.id(), alice.name(), 70000, 30, "Engineer", "alice@example.com");
+
+        EmployeeSnapshot changed = cache.onChanged(List.of(bob, raisedAlice), List.of(alice.id())).orElseThrow();
+        EmployeeSnapshot reinstalled = cache.beginLoad().install(changed.employees());
+
+        assertEquals(loaded.version() + 1, changed.version());
+        assertEquals(List.of(bob, raisedAlice), changed.employees());
+        assertEquals(70000, changed.salaryIndex().highestSalary());
+        assertEquals(List.of(bob), changed.nameIndex().search("bob"));
+        assertEquals(changed.version(), reinstalled.version());
+        assertSame(changed.salaryIndex(), reinstalled.salaryIndex());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testWriteThrough_shouldBeIgnored_whenNothingLoadedYet() {
+        cache.onCreated(bob);
+
+        assertTrue(cache.peek().isEmpty());
+    }
+
+    @Test
+    void testRefresh_shouldKeepWritesMadeWhileTheLoadWasInFlight() {
+        Employee carol = new Employee(UUID.randomUUID(), "Carol White", 70000, 40, "Director", "carol@example.com");
+        AtomicInteger calls = new AtomicInteger();
+        EmployeeSnapshotCache[] racing = new EmployeeSnapshotCache[1];
+        racing[0] = new EmployeeSnapshotCache(
+                () -> {
+                    if (calls.incrementAndGet() == 2) {
+                        // The upstream answered before these writes reached it.
+                        racing[0].onCreated(carol);
+                        racing[0].onDeleted(alice.id());
+                    }
+                    return List.of(alice, bob);
+                },
+                new EmployeeCacheSettings(Duration.ofSeconds(60), Duration.ofSeconds(10), Duration.ofMinutes(5), false),
+                clock);
+        racing[0].get();
+
+        EmployeeSnapshot reloaded = racing[0].refresh();
+
+        assertEquals(List.of(bob, carol), reloaded.employees());
+        // Later loads start after the writes, so they take the upstream list as it is.
+        assertEquals(List.of(alice, bob), racing[0].refresh().employees());
+    }
+}
@@ -0,0 +1,73 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class NameIndexTest {
+
+    private final Employee alice = employee("Alice Smith");
+    private final Employee bob = employee("Bob Johnson");
+    private final Employee ivan = employee("IVAN SMITHERS");
+
+    @Test
+    void testSearch_shouldMatchSubstrings_ignoringCase() {
+        NameIndex index = NameIndex.of(List.of(alice, bob, ivan));
+
+        assertEquals(List.of(alice, ivan), index.search("smith"));
+        assertEquals(List.of(bob), index.search("JOHN"));
+        assertTrue(index.search("nobody").isEmpty());
+    }
+
+    @Test
+    void testSearch_shouldScanFoldedNames_whenQueryShorterThanTrigram() {
+        NameIndex index = NameIndex.of(List.of(alice, bob, ivan));
+
+        assertEquals(List.of(alice, ivan), index.search("i"));
+        assertEquals(List.of(bob), index.search("Bo"));
+    }
+
+    @Test
+    void testFindByName_shouldMatchWholeNames_ignoringCase() {
+        Employee aliceAgain = employee("ALICE SMITH");
+        NameIndex index = NameIndex.of(List.of(alice, ivan, aliceAgain));
+
+        assertEquals(List.of(alice, aliceAgain), index.findByName("alice smith"));
+        assertTrue(index.findByName("Alice").isEmpty());
+    }
+
+    @Test
+    void testSearch_shouldNotDependOnDefaultLocale() {
+        Locale previous = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+            NameIndex index = NameIndex.of(List.of(ivan));
+
+            assertEquals(List.of(ivan), index.search("ivan"));
+        } finally {
+            Locale.setDefault(previous);
+        }
+    }
+
+    @Test
+    void testWithAndWithout_shouldUpdatePostings_withoutTouchingOriginal() {
+        NameIndex original = NameIndex.of(List.of(alice));
+        Employee alicia = employee("Alicia Keys");
+
+        NameIndex added = original.with(alicia);
+        assertEquals(List.of(alice, alicia), added.search("alic"));
+
+        NameIndex removed = added.without(alice);
+        assertEquals(List.of(alicia), removed.search("alic"));
+        assertTrue(removed.search("smith").isEmpty());
+        assertEquals(List.of(alice), original.search("alic"));
+    }
+
+    private static Employee employee(String name) {
+        return new Employee(UUID.randomUUID(), name, 50000, 30, "Engineer", "someone@example.com");
+    }
+}
@@ -0,0 +1,59 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class SalaryIndexTest {
+
+    private final Employee carol = employee("Carol", 90000);
+    private final Employee alice = employee("Alice", 70000);
+    private final Employee bob = employee("Bob", 70000);
+    private final Employee dave = employee("Dave", 40000);
+
+    @Test
+    void testTop_shouldOrderBySalaryDescending_thenByName() {
+        SalaryIndex index = SalaryIndex.of(List.of(dave, bob, carol, alice));
+
+        assertEquals(List.of(carol, alice, bob), index.top(3));
+        assertEquals(90000, index.highestSalary());
+    }
+
+    @Test
+    void testTop_shouldReturnEverything_whenFewerThanK() {
+        SalaryIndex index = SalaryIndex.of(List.of(dave, alice));
+
+        assertEquals(List.of(alice, dave), index.top(10));
+    }
+
+    @Test
+    void testWithAndWithout_shouldMaintainOrder_withoutTouchingOriginal() {
+        SalaryIndex original = SalaryIndex.of(List.of(alice, dave));
+        Employee erin = employee("Erin", 95000);
+
+        SalaryIndex added = original.with(erin).with(bob);
+        assertEquals(List.of(erin, alice, bob, dave), added.top(10));
+        assertEquals(95000, added.highestSalary());
+
+        SalaryIndex removed = added.without(erin);
+        assertEquals(List.of(alice, bob, dave), removed.top(10));
+        assertEquals(70000, removed.highestSalary());
+        assertEquals(List.of(alice, dave), original.top(10));
+    }
+
+    @Test
+    void testHighestSalary_shouldBeZero_whenEmpty() {
+        SalaryIndex index = SalaryIndex.of(List.of());
+
+        assertEquals(0, index.highestSalary());
+        assertTrue(index.top(10).isEmpty());
+        assertSame(index, index.without(alice));
+    }
+
+    private static Employee employee(String name, int salary) {
+        return new Employee(UUID.randomUUID(), name, salary, 30, "Engineer", name.toLowerCase() + "@example.com");
+    }
+}
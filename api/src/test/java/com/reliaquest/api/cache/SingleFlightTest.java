@@ -0,0 +1,120 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SingleFlight<String, Integer> singleFlight = new SingleFlight<>("test");
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testExecute_shouldShareOneCall_betweenConcurrentCallersOfSameKey() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("all", () -> {
+                calls.incrementAndGet();
+                await(release);
+                return 42;
+            })));
+        }
+        awaitCoalesced(CALLERS - 1);
+        release.countDown();
+
+        for (Future<Integer> result : results) {
+            assertEquals(42, result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, calls.get());
+        assertEquals(new SingleFlight.Stats("test", 1, CALLERS - 1, 0), singleFlight.stats());
+    }
+
+    @Test
+    void testExecute_shouldPropagateSameError_toAllWaitingCallers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("upstream down");
+
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("all", () -> {
+                await(release);
+                throw failure;
+            })));
+        }
+        awaitCoalesced(CALLERS - 1);
+        release.countDown();
+
+        for (Future<Integer> result : results) {
+            Exception ex = assertThrows(Exception.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertSame(failure, ex.getCause());
+        }
+    }
+
+    @Test
+    void testExecute_shouldRunAgain_onceThePreviousCallCompleted() {
+        AtomicInteger calls = new AtomicInteger();
+
+        singleFlight.execute("all", calls::incrementAndGet);
+        singleFlight.execute("all", calls::incrementAndGet);
+
+        assertEquals(2, calls.get());
+        assertEquals(0, singleFlight.stats().coalesced());
+    }
+
+    @Test
+    void testExecuteAsync_shouldShareOneCall_andIsolateCancellation() throws Exception {
+        CompletableFuture<Integer> upstream = new CompletableFuture<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<Integer> first = singleFlight.executeAsync("all", () -> {
+            calls.incrementAndGet();
+            return upstream;
+        });
+        CompletableFuture<Integer> second = singleFlight.executeAsync("all", () -> {
+            calls.incrementAndGet();
+            return upstream;
+        });
+        first.cancel(true);
+        upstream.complete(42);
+
+        assertEquals(42, second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, calls.get());
+        assertEquals(new SingleFlight.Stats("test", 1, 1, 0), singleFlight.stats());
+    }
+
+    private void awaitCoalesced(long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.stats().coalesced() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, singleFlight.stats().coalesced());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.MutableClock;
+import com.reliaquest.api.exception.LocalRateLimitException;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveRateLimiterTest {
+
+    private MutableClock clock;
+    private AdaptiveRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        RateLimiterSettings settings =
+                new RateLimiterSettings(true, 5, 50, Duration.ofSeconds(30), Duration.ofSeconds(120), Duration.ZERO);
+        limiter = new AdaptiveRateLimiter(settings, "Rate limit exceeded", clock);
+    }
+
+    @Test
+    void testAcquire_shouldRejectLocally_onceInitialPermitsAreUsed() {
+        sendAccepted(5);
+
+        assertThrows(LocalRateLimitException.class, limiter::acquire);
+        assertEquals(1, limiter.stats().localRejections());
+        assertEquals(0, limiter.stats().availablePermits());
+    }
+
+    @Test
+    void testOnThrottled_shouldLearnPermits_fromRequestsAcceptedInWindow() {
+        sendAccepted(3);
+        limiter.acquire();
+        limiter.onThrottled();
+
+        assertEquals(3, limiter.stats().estimatedPermits());
+        assertThrows(LocalRateLimitException.class, limiter::acquire);
+
+        clock.advance(Duration.ofSeconds(30));
+        assertDoesNotThrow(limiter::acquire);
+    }
+
+    @Test
+    void testOnThrottled_shouldGrowWindow_whenFirstRequestAfterRefillIsThrottled() {
+        sendAccepted(5);
+        clock.advance(Duration.ofSeconds(30));
+        limiter.acquire();
+        limiter.onThrottled();
+
+        assertEquals(Duration.ofSeconds(45), limiter.stats().estimatedWindow());
+        clock.advance(Duration.ofSeconds(10));
+        assertThrows(LocalRateLimitException.class, limiter::acquire);
+        clock.advance(Duration.ofSeconds(5));
+        assertDoesNotThrow(limiter::acquire);
+    }
+
+    @Test
+    void testAcquire_shouldProbeOneMorePermit_afterAWindowWithoutThrottling() {
+        sendAccepted(5);
+        clock.advance(Duration.ofSeconds(30));
+
+        sendAccepted(6);
+
+        assertEquals(6, limiter.stats().estimatedPermits());
+    }
+
+    private void sendAccepted(int requests) {
+        for (int i = 0; i < requests; i++) {
+            limiter.acquire();
+            limiter.onAccepted();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Test;
+
+class CompressionTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testGzip_shouldRoundTripTheEmployeeList_inAFractionOfTheBytes() throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(new ApiResponse<>(employees(1_000), "Successfully processed"));
+
+        byte[] compressed = gzip(json);
+
+        assertArrayEquals(json, gunzip(compressed));
+        assertTrue(compressed.length * 3 < json.length);
+    }
+
+    @Test
+    void testGzip_shouldSaveLittle_onASingleEmployee() throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(new ApiResponse<>(employees(1), "Successfully processed"));
+
+        byte[] compressed = gzip(json);
+
+        assertArrayEquals(json, gunzip(compressed));
+        assertTrue(json.length - compressed.length < 200);
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream gunzip = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return gunzip.readAllBytes();
+        }
+    }
+
+    private static List<Employee> employees(int count) {
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            employees.add(new Employee(
+                    UUID.randomUUID(),
+                    "Employee Number " + i,
+                    30_000 + (i * 37) % 470_000,
+                    16 + i % 54,
+                    "Title " + i % 40,
+                    "employee" + i + "@company.com"));
+        }
+        return employees;
+    }
+}
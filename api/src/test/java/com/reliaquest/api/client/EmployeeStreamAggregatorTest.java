@@ -0,0 +1,79 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.reliaquest.api.model.SalaryAggregate;
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class EmployeeStreamAggregatorTest {
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    @Test
+    void testAggregate_shouldKeepTopK_andSkipUnknownFields() throws IOException {
+        String json =
+                """
+                {"status": "ok", "meta": {"page": [1, 2]}, "data": [
+                  {"id": "00000000-0000-0000-0000-000000000001", "employee_name": "Dave", "employee_salary": 40000,
+                   "employee_age": 30, "employee_title": "Clerk", "tags": [{"a": 1}]},
+                  {"id": "00000000-0000-0000-0000-000000000002", "employee_name": "Bob", "employee_salary": 70000},
+                  {"id": "00000000-0000-0000-0000-000000000003", "employee_name": "Carol", "employee_salary": 90000},
+                  {"id": "00000000-0000-0000-0000-000000000004", "employee_name": "Alice", "employee_salary": 70000}
+                ]}
+                """;
+
+        SalaryAggregate aggregate = aggregate(json, 3);
+
+        assertEquals(90000, aggregate.highestSalary());
+        assertEquals(List.of("Carol", "Alice", "Bob"), aggregate.topEarners());
+    }
+
+    @Test
+    void testAggregate_shouldBreakNameTiesById() throws IOException {
+        String json =
+                """
+                {"data": [
+                  {"id": "00000000-0000-0000-0000-000000000009", "employee_name": "Sam", "employee_salary": 100},
+                  {"employee_salary": 100, "employee_name": "Sam", "id": "00000000-0000-0000-0000-000000000002"},
+                  {"id": "00000000-0000-0000-0000-000000000005", "employee_name": "Sam", "employee_salary": 100}
+                ]}
+                """;
+
+        SalaryAggregate aggregate = aggregate(json, 2);
+
+        assertEquals(List.of("Sam", "Sam"), aggregate.topEarners());
+        assertEquals(100, aggregate.highestSalary());
+    }
+
+    @Test
+    void testAggregate_shouldReturnZero_whenDataIsEmptyOrNull() throws IOException {
+        assertEquals(new SalaryAggregate(0, List.of()), aggregate("{\"data\": []}", 10));
+        assertEquals(new SalaryAggregate(0, List.of()), aggregate("{\"data\": null, \"status\": \"ok\"}", 10));
+    }
+
+    @Test
+    void testAggregate_shouldRejectNonObjectPayload() {
+        assertThrows(IOException.class, () -> aggregate("[1, 2]", 10));
+    }
+
+    @Test
+    void testAggregate_shouldRejectMalformedId() {
+        String json =
+                """
+                {"data": [{"id": "not-a-uuid", "employee_name": "Sam", "employee_salary": 100}]}
+                """;
+
+        assertThrows(JsonParseException.class, () -> aggregate(json, 10));
+    }
+
+    private SalaryAggregate aggregate(String json, int k) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            return EmployeeStreamAggregator.aggregate(parser, k);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+class GzipResponseInterceptorTest {
+
+    private final GzipResponseInterceptor interceptor = new GzipResponseInterceptor();
+
+    @Test
+    void testIntercept_shouldAskForGzip_andInflateGzipResponses() throws IOException {
+        String json = "{\"data\": [], \"status\": \"ok\"}";
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("/"));
+        MockClientHttpResponse gzipped = new MockClientHttpResponse(gzip(json), HttpStatus.OK);
+        gzipped.getHeaders().set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        gzipped.getHeaders().setContentLength(42);
+
+        ClientHttpResponse response = interceptor.intercept(request, new byte[0], (req, body) -> gzipped);
+
+        assertEquals("gzip", request.getHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING));
+        assertEquals(json, new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8));
+        assertFalse(response.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING));
+        assertFalse(response.getHeaders().containsKey(HttpHeaders.CONTENT_LENGTH));
+    }
+
+    @Test
+    void testIntercept_shouldPassPlainResponsesThrough() throws IOException {
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("/"));
+        request.getHeaders().set(HttpHeaders.ACCEPT_ENCODING, "identity");
+        MockClientHttpResponse plain = new MockClientHttpResponse("{}".getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+
+        ClientHttpResponse response = interceptor.intercept(request, new byte[0], (req, body) -> plain);
+
+        assertSame(plain, response);
+        assertEquals("identity", request.getHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    private static byte[] gzip(String text) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,114 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class MicroBatcherTest {
+
+    private final List<List<Integer>> calls = new CopyOnWriteArrayList<>();
+
+    private MicroBatcher<Integer, String> batcher;
+
+    @AfterEach
+    void tearDown() {
+        batcher.close();
+    }
+
+    @Test
+    void testSubmit_shouldSendFullBatchAtOnce_andRouteResultsToCallers() throws Exception {
+        batcher = new MicroBatcher<>("test", 3, Duration.ofMinutes(1), this::echo);
+
+        CompletableFuture<String> first = batcher.submit(1);
+        CompletableFuture<String> second = batcher.submit(2);
+        assertFalse(first.isDone());
+        CompletableFuture<String> third = batcher.submit(3);
+
+        assertEquals("r1", first.get(1, TimeUnit.SECONDS));
+        assertEquals("r2", second.get(1, TimeUnit.SECONDS));
+        assertEquals("r3", third.get(1, TimeUnit.SECONDS));
+        assertEquals(List.of(List.of(1, 2, 3)), calls);
+        assertEquals(new MicroBatcher.Stats("test", 1, 3, 0), batcher.stats());
+    }
+
+    @Test
+    void testExecute_shouldSendPartialBatch_afterLinger() {
+        batcher = new MicroBatcher<>("test", 10, Duration.ofMillis(20), this::echo);
+
+        assertEquals("r7", batcher.execute(7));
+        assertEquals(List.of(List.of(7)), calls);
+    }
+
+    @Test
+    void testSubmit_shouldSendLingeringBatch_whileAnEarlierBatchIsStillBlocked() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        batcher = new MicroBatcher<>("test", 10, Duration.ofMillis(10), items -> {
+            if (items.contains(1)) {
+                started.countDown();
+                await(release);
+            }
+            return echo(items);
+        });
+
+        CompletableFuture<String> blocked = batcher.submit(1);
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        CompletableFuture<String> later = batcher.submit(2);
+
+        assertEquals("r2", later.get(1, TimeUnit.SECONDS));
+        assertFalse(blocked.isDone());
+        release.countDown();
+        assertEquals("r1", blocked.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testExecute_shouldRethrowBatchFailure_toEveryCaller() throws Exception {
+        batcher = new MicroBatcher<>("test", 2, Duration.ofMinutes(1), items -> {
+            throw new IllegalArgumentException("boom");
+        });
+
+        CompletableFuture<String> first = batcher.submit(1);
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> batcher.execute(2));
+
+        assertEquals("boom", thrown.getMessage());
+        assertTrue(first.isCompletedExceptionally());
+    }
+
+    @Test
+    void testExecute_shouldFail_whenBatchReturnsWrongNumberOfResults() {
+        batcher = new MicroBatcher<>("test", 1, Duration.ofMinutes(1), items -> List.of());
+
+        assertThrows(IllegalStateException.class, () -> batcher.execute(1));
+    }
+
+    @Test
+    void testClose_shouldSendWaitingItems() throws Exception {
+        batcher = new MicroBatcher<>("test", 10, Duration.ofMinutes(1), this::echo);
+        CompletableFuture<String> waiting = batcher.submit(5);
+
+        batcher.close();
+
+        assertEquals("r5", waiting.get(1, TimeUnit.SECONDS));
+    }
+
+    private List<String> echo(List<Integer> items) {
+        calls.add(items);
+        return items.stream().map(item -> "r" + item).toList();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+
+class NdjsonEmployeeHttpMessageConverterTest {
+
+    private final NdjsonEmployeeHttpMessageConverter converter =
+            new NdjsonEmployeeHttpMessageConverter(new ObjectMapper());
+
+    @Test
+    void testRead_shouldDecodeOneEmployeePerLine() throws Exception {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        String body =
+                """
+                {"id":"%s","employee_name":"Alice","employee_salary":70000,"employee_age":30}
+                {"id":"%s","employee_name":"Bob","employee_salary":50000,"employee_age":40}
+                """
+                        .formatted(first, second);
+
+        Employee[] employees = converter.read(Employee[].class, input(body));
+
+        assertEquals(2, employees.length);
+        assertEquals(first, employees[0].id());
+        assertEquals("Bob", employees[1].name());
+    }
+
+    @Test
+    void testRead_shouldReturnEmpty_forEmptyStream() throws Exception {
+        assertEquals(0, converter.read(Employee[].class, input("")).length);
+    }
+
+    @Test
+    void testRead_shouldFail_onMalformedLine() {
+        assertThrows(HttpMessageNotReadableException.class, () -> converter.read(Employee[].class, input("{\"id\":")));
+    }
+
+    @Test
+    void testCanRead_onlyEmployeeArraysFromNdjson() {
+        assertTrue(converter.canRead(Employee[].class, MediaType.APPLICATION_NDJSON));
+        assertFalse(converter.canRead(Employee[].class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canRead(Employee.class, MediaType.APPLICATION_NDJSON));
+        assertFalse(converter.canWrite(Employee[].class, MediaType.APPLICATION_NDJSON));
+        assertEquals(List.of(MediaType.APPLICATION_NDJSON), converter.getSupportedMediaTypes(Employee[].class));
+    }
+
+    private static MockHttpInputMessage input(String body) {
+        MockHttpInputMessage message = new MockHttpInputMessage(body.getBytes(StandardCharsets.UTF_8));
+        message.getHeaders().setContentType(MediaType.APPLICATION_NDJSON);
+        return message;
+    }
+}
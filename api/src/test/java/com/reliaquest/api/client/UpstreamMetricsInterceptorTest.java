@@ -0,0 +1,49 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+class UpstreamMetricsInterceptorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final UpstreamMetricsInterceptor interceptor = new UpstreamMetricsInterceptor(registry, "/api/v1/employee");
+
+    @Test
+    void testIntercept_shouldTimeRequestByEndpointAndStatus_onceTheResponseIsClosed() throws IOException {
+        URI uri = URI.create("http://localhost:8112/api/v1/employee/4a3a170b-22cd-4ac2-aad1-9bb5b34a1507");
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, uri);
+        MockClientHttpResponse upstream =
+                new MockClientHttpResponse("{}".getBytes(StandardCharsets.UTF_8), HttpStatus.TOO_MANY_REQUESTS);
+
+        ClientHttpResponse response = interceptor.intercept(request, new byte[0], (req, body) -> upstream);
+
+        Timer timer = registry.find(UpstreamMetricsInterceptor.TIMER)
+                .tags("method", "GET", "endpoint", "/{id}", "status", "429")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(0, timer.count());
+        response.getBody().readAllBytes();
+        response.close();
+        response.close();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void testEndpoint_shouldStripBasePath_andQuery() {
+        assertEquals("/", interceptor.endpoint(URI.create("http://localhost:8112/api/v1/employee?name=ann")));
+        assertEquals("/changes", interceptor.endpoint(URI.create("http://localhost/api/v1/employee/changes?since=3")));
+        assertEquals("/aggregates/salary", interceptor.endpoint(URI.create("/api/v1/employee/aggregates/salary")));
+    }
+}
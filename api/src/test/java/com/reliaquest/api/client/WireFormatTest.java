@@ -0,0 +1,77 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.SalaryAggregate;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpInputMessage;
+
+class WireFormatTest {
+
+    private static final TypeReference<ApiResponse<List<Employee>>> EMPLOYEE_LIST = new TypeReference<>() {};
+
+    private final ObjectMapper json = new ObjectMapper();
+
+    private final ObjectMapper smile = new ObjectMapper(new SmileFactory());
+
+    @Test
+    void testSmile_shouldRoundTripTheEmployeeList_inFewerBytesThanJson() throws IOException {
+        ApiResponse<List<Employee>> response = new ApiResponse<>(employees(1_000), "Successfully processed request.");
+
+        byte[] smileBytes = smile.writeValueAsBytes(response);
+        byte[] jsonBytes = json.writeValueAsBytes(response);
+
+        assertEquals(response, smile.readValue(smileBytes, EMPLOYEE_LIST));
+        assertEquals(response, json.readValue(jsonBytes, EMPLOYEE_LIST));
+        assertTrue(smileBytes.length < jsonBytes.length);
+    }
+
+    @Test
+    void testSalaryAggregateConverter_shouldReadSmile() throws IOException {
+        ApiResponse<List<Employee>> response = new ApiResponse<>(employees(50), "Successfully processed request.");
+        SalaryAggregateHttpMessageConverter converter =
+                new SalaryAggregateHttpMessageConverter(smile.getFactory(), 3, EmployeeWireFormat.SMILE_MEDIA_TYPE);
+
+        SalaryAggregate aggregate =
+                converter.read(SalaryAggregate.class, new MockHttpInputMessage(smile.writeValueAsBytes(response)));
+
+        assertTrue(converter.canRead(SalaryAggregate.class, EmployeeWireFormat.SMILE_MEDIA_TYPE));
+        assertFalse(converter.canRead(SalaryAggregate.class, MediaType.APPLICATION_JSON));
+        assertEquals(
+                response.data().stream().mapToInt(Employee::salary).max().orElseThrow(), aggregate.highestSalary());
+        assertEquals(3, aggregate.topEarners().size());
+    }
+
+    @Test
+    void testSmileAccept_shouldFallBackToJson_atLowerQuality() {
+        List<MediaType> accept = EmployeeWireFormat.SMILE.accept();
+
+        assertEquals(EmployeeWireFormat.SMILE_MEDIA_TYPE, accept.get(0));
+        assertTrue(accept.get(1).isCompatibleWith(MediaType.APPLICATION_JSON));
+        assertEquals(0.9, accept.get(1).getQualityValue());
+    }
+
+    private static List<Employee> employees(int count) {
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            employees.add(new Employee(
+                    new UUID(0, i),
+                    "Employee Number " + i,
+                    30_000 + (i * 37) % 470_000,
+                    16 + i % 54,
+                    "Title " + i % 40,
+                    "employee" + i + "@company.com"));
+        }
+        return employees;
+    }
+}
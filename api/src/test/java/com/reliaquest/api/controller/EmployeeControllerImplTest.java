@@ -1,20 +1,36 @@
 package com.reliaquest.api.controller;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import com.reliaquest.api.config.AppConfig;
+import com.reliaquest.api.exception.EmployeeException;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.LocalRateLimitException;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.model.DataFreshness;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.service.IEmployeeService;
 import com.reliaquest.api.validator.EmployeeValidator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.web.servlet.MockMvc;
 
 @WebMvcTest(EmployeeControllerImpl.class)
+@Import({AppConfig.class, SimpleMeterRegistry.class})
+@ImportAutoConfiguration(AopAutoConfiguration.class)
 class EmployeeControllerImplTest {
 
     @Autowired
@@ -26,17 +42,114 @@ class EmployeeControllerImplTest {
     @MockBean
     private EmployeeValidator employeeValidator;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EmployeeControllerImpl controller;
+
     @Test
     void testGetEmployeeById_shouldReturnEmployee() throws Exception {
         UUID id = UUID.randomUUID();
         String idStr = id.toString();
         Employee employee = new Employee(id, "John Doe", 50000, 30, "Engineer", "john@example.com");
 
-        doNothing().when(employeeValidator).validateUUID(idStr);
+        when(employeeValidator.validateUUID(idStr)).thenReturn(id);
         when(employeeService.getEmployeeById(id)).thenReturn(employee);
 
         mockMvc.perform(get("/" + idStr)) // <-- use actual URL
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.employee_name").value("John Doe"));
     }
+
+    @Test
+    void testGetAllEmployees_shouldNotRetry_whenLocalLimiterRejects() throws Exception {
+        when(employeeService.getAllEmployees()).thenThrow(new LocalRateLimitException("Too many requests"));
+        double before = fallbacks();
+
+        mockMvc.perform(get("/")).andExpect(status().isTooManyRequests());
+
+        verify(employeeService, times(1)).getAllEmployees();
+        assertEquals(before, fallbacks());
+    }
+
+    @Test
+    void testFallbackGetAllEmployees_shouldCountOnlyUpstreamThrottles() {
+        double before = fallbacks();
+
+        assertThrows(
+                LocalRateLimitException.class,
+                () -> controller.fallbackGetAllEmployees(new LocalRateLimitException("Too many requests")));
+        assertThrows(
+                TooManyRequestsException.class,
+                () -> controller.fallbackGetAllEmployees(new TooManyRequestsException("Rate limit exceeded.")));
+
+        assertEquals(before + 1, fallbacks());
+    }
+
+    @Test
+    void testGetHighestSalary_shouldFlagStaleSnapshot_withAgeAndCacheStatusHeaders() throws Exception {
+        when(employeeService.getHighestSalary()).thenReturn(90000);
+        when(employeeService.getDataFreshness())
+                .thenReturn(Optional.of(new DataFreshness(Duration.ofSeconds(75), true)));
+
+        mockMvc.perform(get("/highestSalary"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Age", "75"))
+                .andExpect(header().string("X-Cache-Status", "STALE"))
+                .andExpect(header().doesNotExist("Warning"))
+                .andExpect(content().string("90000"));
+    }
+
+    @Test
+    void testGetEmployeeById_shouldAnswerBadRequest_withStacklessValidationError() throws Exception {
+        EmployeeException rejection = new EmployeeException("Employee ID must be a valid UUID");
+        when(employeeValidator.validateUUID("not-a-uuid")).thenThrow(rejection);
+        double rejected = rejections("400");
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/not-a-uuid"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.status").value("Employee Error"))
+                    .andExpect(jsonPath("$.error").value("Employee ID must be a valid UUID"));
+        }
+        assertEquals(0, rejection.getStackTrace().length);
+        assertEquals(rejected + 2, rejections("400"));
+    }
+
+    @Test
+    void testGetEmployeeById_shouldAnswerNotFound_whenNoEmployeeHasTheId() throws Exception {
+        UUID id = UUID.randomUUID();
+        when(employeeValidator.validateUUID(id.toString())).thenReturn(id);
+        when(employeeService.getEmployeeById(id)).thenThrow(new EmployeeNotFoundException("Employee not found: " + id));
+
+        mockMvc.perform(get("/" + id))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Employee not found: " + id));
+    }
+
+    @Test
+    void testGetHighestSalary_shouldAnswerTooManyRequests_withRetryAfter() throws Exception {
+        when(employeeService.getHighestSalary())
+                .thenThrow(new TooManyRequestsException("Rate limit exceeded.", Duration.ofSeconds(5)));
+        double throttled = rejections("429");
+
+        mockMvc.perform(get("/highestSalary"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "5"))
+                .andExpect(jsonPath("$.error").value("Too Many Requests"))
+                .andExpect(jsonPath("$.message").value("Rate limit exceeded."))
+                .andExpect(jsonPath("$.status").value(429));
+        assertEquals(throttled + 1, rejections("429"));
+    }
+
+    private double fallbacks() {
+        return meterRegistry
+                .counter("employee.retry.fallbacks", "name", "getAllEmployees")
+                .count();
+    }
+
+    private double rejections(String status) {
+        return meterRegistry.counter("employee.rejections", "status", status).count();
+    }
 }
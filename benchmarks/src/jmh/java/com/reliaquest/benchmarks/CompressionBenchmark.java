@@ -0,0 +1,56 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.ApiResponse;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Gzip CPU time for employee list responses of growing size, to weigh against the bytes saved when picking
+ * {@code server.compression.min-response-size}.
+ */
+@State(Scope.Benchmark)
+public class CompressionBenchmark {
+
+    @Param({"1", "10", "100", "1000", "10000"})
+    int employees;
+
+    private byte[] json;
+
+    private byte[] compressed;
+
+    @Setup
+    public void encodeOnce() throws IOException {
+        json = new ObjectMapper()
+                .writeValueAsBytes(new ApiResponse<>(Employees.apiEmployees(employees), "Successfully processed"));
+        compressed = gzip(json);
+    }
+
+    @Benchmark
+    public byte[] gzip() throws IOException {
+        return gzip(json);
+    }
+
+    @Benchmark
+    public byte[] gunzip() throws IOException {
+        try (GZIPInputStream gunzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return gunzip.readAllBytes();
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}
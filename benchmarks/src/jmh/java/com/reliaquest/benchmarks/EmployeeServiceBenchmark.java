@@ -0,0 +1,82 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.EmployeeCacheSettings;
+import com.reliaquest.api.client.BatchSettings;
+import com.reliaquest.api.client.EmployeeFetchSettings;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeServiceImpl;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Read paths of {@link EmployeeServiceImpl} once its snapshot is loaded. The upstream is a stub that answers every
+ * request with the same pre-encoded employee list, and the snapshot TTL outlasts the run, so only the local indexes
+ * are measured.
+ */
+@State(Scope.Benchmark)
+public class EmployeeServiceBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    int employees;
+
+    private EmployeeServiceImpl service;
+
+    @Setup
+    public void loadSnapshot() throws IOException {
+        byte[] body = new ObjectMapper()
+                .writeValueAsBytes(new ApiResponse<>(Employees.apiEmployees(employees), "Successfully processed"));
+        RestClient restClient = RestClient.builder()
+                .baseUrl("http://upstream.invalid/api/v1/employee")
+                .requestFactory((uri, method) -> {
+                    MockClientHttpResponse response = new MockClientHttpResponse(body, HttpStatus.OK);
+                    response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                    MockClientHttpRequest request = new MockClientHttpRequest(method, uri);
+                    request.setResponse(response);
+                    return request;
+                })
+                .build();
+        service = new EmployeeServiceImpl(
+                restClient,
+                new StaticMessageSource(),
+                new EmployeeCacheSettings(Duration.ofDays(1), Duration.ofHours(1), Duration.ofDays(1), false),
+                EmployeeFetchSettings.defaults(),
+                BatchSettings.defaults(),
+                BatchSettings.defaults());
+        service.getAllEmployees();
+    }
+
+    @TearDown
+    public void stop() {
+        service.stopSnapshotCache();
+    }
+
+    @Benchmark
+    public List<Employee> searchByName() {
+        return service.getEmployeesByNameSearch("rya");
+    }
+
+    @Benchmark
+    public int highestSalary() {
+        return service.getHighestSalary();
+    }
+
+    @Benchmark
+    public List<String> topTenEarners() {
+        return service.getTopTenHighestEarningEmployeeNames();
+    }
+}
@@ -0,0 +1,71 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.config.AppConfig;
+import com.reliaquest.api.constant.ValidatorConstants;
+import com.reliaquest.api.dto.EmployeeRequestDTO;
+import com.reliaquest.api.exception.EmployeeException;
+import com.reliaquest.api.validator.EmployeeValidator;
+import java.util.UUID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * {@link EmployeeValidator} on valid input and on the rejected-id path, with the api's own message source. The
+ * {@code gc} profiler's {@code gc.alloc.rate.norm} is the number to watch: valid input should allocate nothing but the
+ * parsed {@link UUID}, which {@link #validateUUID_scan} lets escape analysis remove as well. {@link #regexThenParse}
+ * is the match-then-{@code UUID.fromString} path the validator replaced, for comparison.
+ *
+ * <p>The validator is constructed directly rather than taken from the application context, so no proxy is measured.
+ * That matches what requests run only because no aspect applies to the validator bean; {@code ApiApplicationTest}
+ * fails if one ever does.
+ */
+@State(Scope.Benchmark)
+public class EmployeeValidatorBenchmark {
+
+    private final String validId = UUID.randomUUID().toString();
+
+    private final EmployeeRequestDTO validRequest =
+            new EmployeeRequestDTO(null, "Jane Roe", 85000, 34, "Engineer", "jane@example.com");
+
+    private EmployeeValidator validator;
+
+    @Setup
+    public void createValidator() {
+        validator = new EmployeeValidator(new AppConfig().messageSource());
+    }
+
+    @Benchmark
+    public UUID validateUUID() {
+        return validator.validateUUID(validId);
+    }
+
+    @Benchmark
+    public long validateUUID_scan() {
+        return validator.validateUUID(validId).getLeastSignificantBits();
+    }
+
+    @Benchmark
+    public UUID regexThenParse() {
+        if (!validId.matches(ValidatorConstants.UUID_VALIDATOR)) {
+            throw new IllegalStateException("Expected the id to be accepted");
+        }
+        return UUID.fromString(validId);
+    }
+
+    @Benchmark
+    public EmployeeException validateUUID_rejected() {
+        try {
+            validator.validateUUID("not-a-uuid");
+            throw new IllegalStateException("Expected the id to be rejected");
+        } catch (EmployeeException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void validateEmployeeRequest() {
+        validator.validateEmployeeRequest(validRequest);
+    }
+}
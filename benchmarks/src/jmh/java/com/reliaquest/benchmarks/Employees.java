@@ -0,0 +1,61 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Deterministic employee data sets, so runs compare like with like.
+ */
+final class Employees {
+
+    private static final String[] FIRST_NAMES = {
+        "Alice", "Bryan", "Carla", "Dmitri", "Elena", "Farid", "Grace", "Hiro", "Ines", "Jonas", "Keira", "Luis"
+    };
+
+    private static final String[] LAST_NAMES = {
+        "Smith", "Ryan", "Okafor", "Nakamura", "Schmidt", "Dubois", "Rossi", "Kowalski", "Jensen", "Silva"
+    };
+
+    private Employees() {}
+
+    static String name(int i) {
+        String first = FIRST_NAMES[i % FIRST_NAMES.length];
+        String last = LAST_NAMES[(i / FIRST_NAMES.length) % LAST_NAMES.length];
+        return first + " " + last + " " + i;
+    }
+
+    static List<Employee> apiEmployees(int count) {
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            employees.add(new Employee(
+                    new UUID(0, i),
+                    name(i),
+                    salary(i),
+                    16 + i % 60,
+                    "Title " + i % 40,
+                    "employee" + i + "@company.com"));
+        }
+        return employees;
+    }
+
+    static List<MockEmployee> mockEmployees(int count) {
+        List<MockEmployee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            employees.add(new MockEmployee(
+                    new UUID(0, i),
+                    name(i),
+                    salary(i),
+                    16 + i % 60,
+                    "Title " + i % 40,
+                    "employee" + i + "@company.com"));
+        }
+        return employees;
+    }
+
+    private static int salary(int i) {
+        return 30_000 + (int) ((i * 2_654_435_761L) % 470_000);
+    }
+}
@@ -0,0 +1,64 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.AppConfig;
+import com.reliaquest.api.exception.EmployeeException;
+import com.reliaquest.api.exception.EmployeeExceptionHandler;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.validator.EmployeeValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * What the api spends between the controller and the response bytes on a served lookup, a rejected malformed id and
+ * a throttled request. Rejections should cost about as much as serving, with no stack trace captured. Like
+ * {@link EmployeeValidatorBenchmark}, it calls an unproxied validator, the same as the application's bean.
+ */
+@State(Scope.Benchmark)
+public class ErrorPathBenchmark {
+
+    private static final String RATE_LIMIT_MESSAGE = "Rate limit exceeded. Please try again later.";
+
+    private final Employee employee = Employees.apiEmployees(1).get(0);
+
+    private final String validId = employee.id().toString();
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final EmployeeExceptionHandler handler = new EmployeeExceptionHandler(new SimpleMeterRegistry());
+
+    private EmployeeValidator validator;
+
+    @Setup
+    public void createValidator() {
+        validator = new EmployeeValidator(new AppConfig().messageSource());
+    }
+
+    @Benchmark
+    public byte[] serveValidId() throws JsonProcessingException {
+        validator.validateUUID(validId);
+        return mapper.writeValueAsBytes(employee);
+    }
+
+    @Benchmark
+    public byte[] rejectMalformedId() throws JsonProcessingException {
+        try {
+            validator.validateUUID("not-a-uuid");
+            throw new IllegalStateException("Expected the id to be rejected");
+        } catch (EmployeeException ex) {
+            return mapper.writeValueAsBytes(handler.handleEmployeeException(ex).getBody());
+        }
+    }
+
+    @Benchmark
+    public byte[] rejectThrottled() throws JsonProcessingException {
+        TooManyRequestsException ex = new TooManyRequestsException(RATE_LIMIT_MESSAGE, Duration.ofSeconds(30));
+        return mapper.writeValueAsBytes(handler.handleTooManyRequestsException(ex).getBody());
+    }
+}
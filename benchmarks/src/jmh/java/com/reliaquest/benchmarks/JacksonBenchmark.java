@@ -0,0 +1,82 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JSON encoding and decoding of {@code employees} employees as each side handles them: the api writes and reads
+ * {@link Employee}, the server writes {@link MockEmployee} and reads {@link CreateMockEmployeeInput}. The server mapper
+ * gets the same pass-through field filter the server registers.
+ */
+@State(Scope.Benchmark)
+public class JacksonBenchmark {
+
+    private static final TypeReference<List<Employee>> EMPLOYEES = new TypeReference<>() {};
+
+    private static final TypeReference<List<CreateMockEmployeeInput>> CREATE_INPUTS = new TypeReference<>() {};
+
+    @Param({"1", "1000"})
+    int employees;
+
+    private final ObjectMapper apiMapper = new ObjectMapper();
+
+    private final ObjectMapper serverMapper = new ObjectMapper()
+            .setFilterProvider(new SimpleFilterProvider()
+                    .addFilter(MockEmployee.FIELDS_FILTER, SimpleBeanPropertyFilter.serializeAll()));
+
+    private List<Employee> apiEmployees;
+
+    private List<MockEmployee> mockEmployees;
+
+    private byte[] apiJson;
+
+    private byte[] createInputJson;
+
+    @Setup
+    public void encodeOnce() throws JsonProcessingException {
+        apiEmployees = Employees.apiEmployees(employees);
+        mockEmployees = Employees.mockEmployees(employees);
+        apiJson = apiMapper.writeValueAsBytes(apiEmployees);
+        createInputJson = serverMapper.writeValueAsBytes(mockEmployees.stream()
+                .map(employee -> Map.of(
+                        "name", employee.getName(),
+                        "salary", employee.getSalary(),
+                        "age", employee.getAge(),
+                        "title", employee.getTitle()))
+                .toList());
+    }
+
+    @Benchmark
+    public byte[] serializeEmployee() throws JsonProcessingException {
+        return apiMapper.writeValueAsBytes(apiEmployees);
+    }
+
+    @Benchmark
+    public List<Employee> deserializeEmployee() throws IOException {
+        return apiMapper.readValue(apiJson, EMPLOYEES);
+    }
+
+    @Benchmark
+    public byte[] serializeMockEmployee() throws JsonProcessingException {
+        return serverMapper.writeValueAsBytes(mockEmployees);
+    }
+
+    @Benchmark
+    public List<CreateMockEmployeeInput> deserializeCreateInput() throws IOException {
+        return serverMapper.readValue(createInputJson, CREATE_INPUTS);
+    }
+}
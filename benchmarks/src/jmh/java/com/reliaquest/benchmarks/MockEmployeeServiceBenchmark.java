@@ -0,0 +1,67 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.service.MockEmployeeStore;
+import jakarta.validation.Validation;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * {@link MockEmployeeService} lookups and writes against a store of {@code employees}. The store is reseeded before
+ * every iteration so creates do not grow it without bound.
+ */
+@State(Scope.Benchmark)
+public class MockEmployeeServiceBenchmark {
+
+    @Param({"10000", "100000"})
+    int employees;
+
+    private final Faker faker = new Faker(Locale.ENGLISH);
+
+    private final CreateMockEmployeeInput input = new CreateMockEmployeeInput();
+
+    private final DeleteMockEmployeeInput deleteInput = new DeleteMockEmployeeInput();
+
+    private MockEmployeeService service;
+
+    @Setup(Level.Iteration)
+    public void seedStore() {
+        input.setName("Benchmark Hire");
+        input.setSalary(75000);
+        input.setAge(30);
+        input.setTitle("Engineer");
+        deleteInput.setName(input.getName());
+        service = new MockEmployeeService(
+                faker,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new MockEmployeeStore(Employees.mockEmployees(employees)));
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> findById() {
+        return service.findById(new UUID(0, ThreadLocalRandom.current().nextInt(employees)));
+    }
+
+    @Benchmark
+    public MockEmployee create() {
+        return service.create(input);
+    }
+
+    @Benchmark
+    public boolean createThenDelete() {
+        service.create(input);
+        return service.delete(deleteInput);
+    }
+}
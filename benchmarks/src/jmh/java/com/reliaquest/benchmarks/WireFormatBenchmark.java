@@ -0,0 +1,59 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Encoding and decoding of an employee list response of {@code employees} employees in JSON and the binary Jackson
+ * formats the client could negotiate. Payload sizes are covered by the api's {@code WireFormatTest}.
+ */
+@State(Scope.Benchmark)
+public class WireFormatBenchmark {
+
+    private static final TypeReference<ApiResponse<List<Employee>>> EMPLOYEE_LIST = new TypeReference<>() {};
+
+    @Param({"100", "10000"})
+    int employees;
+
+    @Param({"json", "smile", "cbor"})
+    String format;
+
+    private ObjectMapper mapper;
+
+    private ApiResponse<List<Employee>> response;
+
+    private byte[] encoded;
+
+    @Setup
+    public void encodeOnce() throws JsonProcessingException {
+        mapper = switch (format) {
+            case "smile" -> new ObjectMapper(new SmileFactory());
+            case "cbor" -> new ObjectMapper(new CBORFactory());
+            default -> new ObjectMapper();
+        };
+        response = new ApiResponse<>(Employees.apiEmployees(employees), "Successfully processed request.");
+        encoded = mapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] encode() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public ApiResponse<List<Employee>> decode() throws IOException {
+        return mapper.readValue(encoded, EMPLOYEE_LIST);
+    }
+}
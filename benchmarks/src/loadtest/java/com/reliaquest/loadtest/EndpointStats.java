@@ -0,0 +1,83 @@
+package com.reliaquest.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Outcome counts and a latency histogram for one operation. Latency runs from when a request was scheduled to start,
+ * not from when it was sent, so a stalled client does not hide server stalls (coordinated omission).
+ */
+final class EndpointStats {
+
+    private static final long MAX_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final Histogram latency = new ConcurrentHistogram(MAX_TRACKABLE_NANOS, 3);
+
+    private final LongAdder ok = new LongAdder();
+
+    private final LongAdder throttled = new LongAdder();
+
+    private final LongAdder errors = new LongAdder();
+
+    private final LongAdder skipped = new LongAdder();
+
+    void record(int status, long latencyNanos) {
+        latency.recordValue(Math.min(latencyNanos, MAX_TRACKABLE_NANOS));
+        if (status == 429) {
+            throttled.increment();
+        } else if (status >= 200 && status < 300) {
+            ok.increment();
+        } else {
+            errors.increment();
+        }
+    }
+
+    void recordFailure(long latencyNanos) {
+        latency.recordValue(Math.min(latencyNanos, MAX_TRACKABLE_NANOS));
+        errors.increment();
+    }
+
+    /**
+     * Counts a scheduled request that could not be issued, such as a delete with nothing left to delete.
+     */
+    void recordSkipped() {
+        skipped.increment();
+    }
+
+    Report report(Operation operation) {
+        long completed = ok.sum() + throttled.sum() + errors.sum();
+        return new Report(
+                operation.key(),
+                completed,
+                ok.sum(),
+                throttled.sum(),
+                errors.sum(),
+                skipped.sum(),
+                completed == 0 ? 0 : (double) throttled.sum() / completed,
+                millis(latency.getValueAtPercentile(50)),
+                millis(latency.getValueAtPercentile(99)),
+                millis(latency.getValueAtPercentile(99.9)),
+                millis(latency.getMaxValue()),
+                latency.getTotalCount() == 0 ? 0 : latency.getMean() / 1e6);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    record Report(
+            String operation,
+            long requests,
+            long ok,
+            long throttled,
+            long errors,
+            long skipped,
+            double throttledRate,
+            double p50Millis,
+            double p99Millis,
+            double p999Millis,
+            double maxMillis,
+            double meanMillis) {}
+}
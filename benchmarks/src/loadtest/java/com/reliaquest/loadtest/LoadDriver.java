@@ -0,0 +1,201 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Issues requests against the api at a fixed arrival rate (open loop): each request is sent at its scheduled time
+ * whether or not earlier ones have completed, so a slow api builds up a queue instead of slowing the load down.
+ */
+final class LoadDriver {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadDriver.class);
+
+    private static final TypeReference<List<Map<String, Object>>> EMPLOYEES = new TypeReference<>() {};
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final URI baseUri;
+
+    private final Operation[] weightedOperations;
+
+    private final SplittableRandom random;
+
+    private final List<String> knownIds = new ArrayList<>();
+
+    private final List<String> searchFragments = new ArrayList<>();
+
+    private final Queue<String> createdIds = new ConcurrentLinkedQueue<>();
+
+    LoadDriver(URI baseUri, Map<Operation, Integer> mix, long seed) {
+        this.baseUri = baseUri;
+        this.random = new SplittableRandom(seed);
+        List<Operation> weighted = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weighted.add(operation);
+            }
+        });
+        this.weightedOperations = weighted.toArray(new Operation[0]);
+    }
+
+    /**
+     * Reads the employee list once, retrying while throttled, to pick the ids and name fragments later requests use.
+     */
+    void discoverEmployees() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(baseUri).timeout(REQUEST_TIMEOUT).GET().build();
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        while (response.statusCode() == 429) {
+            TimeUnit.SECONDS.sleep(1);
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        }
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Could not list employees: HTTP " + response.statusCode());
+        }
+        for (Map<String, Object> employee : objectMapper.readValue(response.body(), EMPLOYEES)) {
+            knownIds.add(String.valueOf(employee.get("id")));
+            String firstName = String.valueOf(employee.get("employee_name")).split("\\W", 2)[0];
+            if (firstName.length() >= 3) {
+                int start = random.nextInt(firstName.length() - 2);
+                searchFragments.add(firstName.substring(start, start + 3));
+            }
+        }
+        if (knownIds.isEmpty() || searchFragments.isEmpty()) {
+            throw new IllegalStateException("The mock server returned no employees to drive the load with");
+        }
+        logger.info("Driving load with {} known employees", knownIds.size());
+    }
+
+    /**
+     * Sends {@code ratePerSecond} requests per second for {@code duration} and waits for the last of them to finish.
+     * Returns the number of requests scheduled.
+     *
+     * <p>Requests in flight are counted in a plain {@link AtomicLong}, which, unlike a {@code Phaser}'s 65,535 parties,
+     * has no limit on how far a slow api can fall behind. The loop holds one count of its own until it stops
+     * scheduling, so {@code drained} completes only after the last request.
+     */
+    long run(int ratePerSecond, Duration duration, Map<Operation, EndpointStats> stats) {
+        long interval = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        AtomicLong inFlight = new AtomicLong(1);
+        CompletableFuture<Void> drained = new CompletableFuture<>();
+        long scheduled = 0;
+        for (long intended = start; intended < end; intended = start + ++scheduled * interval) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = weightedOperations[random.nextInt(weightedOperations.length)];
+            HttpRequest request = requestFor(operation);
+            EndpointStats endpoint = stats.get(operation);
+            if (request == null) {
+                endpoint.recordSkipped();
+                continue;
+            }
+            long intendedStart = intended;
+            inFlight.incrementAndGet();
+            httpClient
+                    .sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                    .whenComplete((response, failure) -> {
+                        long latency = System.nanoTime() - intendedStart;
+                        if (failure != null) {
+                            endpoint.recordFailure(latency);
+                        } else {
+                            endpoint.record(response.statusCode(), latency);
+                            if (operation == Operation.CREATE && response.statusCode() == 200) {
+                                rememberCreated(response.body());
+                            }
+                        }
+                        if (inFlight.decrementAndGet() == 0) {
+                            drained.complete(null);
+                        }
+                    });
+        }
+        if (inFlight.decrementAndGet() == 0) {
+            drained.complete(null);
+        }
+        drained.join();
+        return scheduled;
+    }
+
+    private HttpRequest requestFor(Operation operation) {
+        return switch (operation) {
+            case GET_ALL -> get("");
+            case SEARCH -> get("search/" + pick(searchFragments));
+            case GET_BY_ID -> get(pick(knownIds));
+            case HIGHEST_SALARY -> get("highestSalary");
+            case TOP_TEN -> get("topTenHighestEarningEmployeeNames");
+            case CREATE -> HttpRequest.newBuilder(baseUri)
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(newEmployee()))
+                    .build();
+            case DELETE -> {
+                String id = createdIds.poll();
+                yield id == null
+                        ? null
+                        : HttpRequest.newBuilder(baseUri.resolve(id)).timeout(REQUEST_TIMEOUT).DELETE().build();
+            }
+        };
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).timeout(REQUEST_TIMEOUT).GET().build();
+    }
+
+    private String pick(List<String> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private byte[] newEmployee() {
+        int n = random.nextInt(1_000_000);
+        try {
+            return objectMapper.writeValueAsBytes(Map.of(
+                    "name", "Load Test " + n,
+                    "salary", 30_000 + random.nextInt(470_000),
+                    "age", 16 + random.nextInt(60),
+                    "title", "Tester",
+                    "email", "load" + n + "@company.com"));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void rememberCreated(byte[] body) {
+        try {
+            Object id = objectMapper.readValue(body, Map.class).get("id");
+            if (id != null) {
+                createdIds.add(id.toString());
+            }
+        } catch (IOException ex) {
+            logger.debug("Could not read created employee: {}", ex.getMessage());
+        }
+    }
+}
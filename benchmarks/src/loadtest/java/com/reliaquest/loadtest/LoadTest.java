@@ -0,0 +1,125 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.ApiApplication;
+import com.reliaquest.server.ServerApplication;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Boots the mock server and the api in this JVM on random ports, drives the api with the configured open-loop load,
+ * and writes per-operation throughput, 429 and error counts and latency percentiles as JSON. Run it through the
+ * {@code loadTest} Gradle task, which points each app at its own {@code application.yml}; both are named the same, so
+ * the classpath alone cannot tell them apart.
+ */
+public final class LoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTest.class);
+
+    private LoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        try (ConfigurableApplicationContext server = new SpringApplicationBuilder(ServerApplication.class)
+                        .properties(
+                                "spring.config.location=file:" + settings.serverConfig(),
+                                "server.port=0",
+                                "mock.employees.max=" + settings.employees())
+                        .run();
+                ConfigurableApplicationContext api = new SpringApplicationBuilder(ApiApplication.class)
+                        .properties(
+                                "spring.config.location=file:" + settings.apiConfig(),
+                                "server.port=0",
+                                "employee.api.host=localhost",
+                                "employee.api.port=" + port(server))
+                        .run()) {
+            LoadDriver driver = new LoadDriver(
+                    URI.create("http://localhost:" + port(api) + "/"), settings.mix(), settings.seed());
+            driver.discoverEmployees();
+
+            logger.info("Warming up for {} at {} requests/s", settings.warmUp(), settings.ratePerSecond());
+            driver.run(settings.ratePerSecond(), settings.warmUp(), newStats());
+
+            logger.info("Recording for {} at {} requests/s", settings.duration(), settings.ratePerSecond());
+            Instant startedAt = Instant.now();
+            Map<Operation, EndpointStats> stats = newStats();
+            long startNanos = System.nanoTime();
+            long scheduled = driver.run(settings.ratePerSecond(), settings.duration(), stats);
+            double elapsedSeconds = (System.nanoTime() - startNanos) / 1e9;
+
+            writeReport(settings, startedAt, scheduled, elapsedSeconds, stats);
+        }
+    }
+
+    private static int port(ConfigurableApplicationContext context) {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    private static Map<Operation, EndpointStats> newStats() {
+        Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new EndpointStats());
+        }
+        return stats;
+    }
+
+    private static void writeReport(
+            LoadTestSettings settings,
+            Instant startedAt,
+            long scheduled,
+            double elapsedSeconds,
+            Map<Operation, EndpointStats> stats)
+            throws IOException {
+        List<EndpointStats.Report> endpoints = stats.entrySet().stream()
+                .map(entry -> entry.getValue().report(entry.getKey()))
+                .filter(report -> report.requests() + report.skipped() > 0)
+                .toList();
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        settings.mix().forEach((operation, weight) -> mix.put(operation.key(), weight));
+        Report report = new Report(
+                startedAt.toString(),
+                settings.ratePerSecond(),
+                settings.duration().toMillis() / 1000.0,
+                settings.employees(),
+                mix,
+                scheduled,
+                scheduled / elapsedSeconds,
+                endpoints);
+        Files.createDirectories(settings.report().toAbsolutePath().getParent());
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(settings.report().toFile(), report);
+        logger.info("Load test report written to {}", settings.report());
+        endpoints.forEach(endpoint -> logger.info(
+                "{}: {} requests, {} throttled, {} errors, p50 {} ms, p99 {} ms, p99.9 {} ms",
+                endpoint.operation(),
+                endpoint.requests(),
+                endpoint.throttled(),
+                endpoint.errors(),
+                endpoint.p50Millis(),
+                endpoint.p99Millis(),
+                endpoint.p999Millis()));
+    }
+
+    /**
+     * The machine-readable result of one run; compare runs by diffing or loading these files.
+     */
+    record Report(
+            String startedAt,
+            int targetRatePerSecond,
+            double durationSeconds,
+            int employees,
+            Map<String, Integer> mix,
+            long requestsScheduled,
+            double achievedRatePerSecond,
+            List<EndpointStats.Report> endpoints) {}
+}
@@ -0,0 +1,76 @@
+package com.reliaquest.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * What to run, read from {@code loadtest.*} system properties.
+ *
+ * @param ratePerSecond requests started per second, whether or not earlier ones have completed
+ * @param warmUp how long to run before recording, so both apps are loaded and compiled
+ * @param duration how long to record
+ * @param mix relative weight of each operation
+ * @param employees employees the mock server is seeded with
+ * @param seed seed for picking operations, ids and search fragments
+ * @param serverConfig the mock server's {@code application.yml}
+ * @param apiConfig the api's {@code application.yml}
+ * @param report where the JSON report is written
+ */
+record LoadTestSettings(
+        int ratePerSecond,
+        Duration warmUp,
+        Duration duration,
+        Map<Operation, Integer> mix,
+        int employees,
+        long seed,
+        Path serverConfig,
+        Path apiConfig,
+        Path report) {
+
+    static final String DEFAULT_MIX = "all:10,search:20,byId:35,highest:10,topTen:10,create:10,delete:5";
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.rate", 200),
+                Duration.parse(System.getProperty("loadtest.warm-up", "PT10S")),
+                Duration.parse(System.getProperty("loadtest.duration", "PT60S")),
+                parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX)),
+                Integer.getInteger("loadtest.employees", 1000),
+                Long.getLong("loadtest.seed", 42L),
+                Path.of(required("loadtest.server-config")),
+                Path.of(required("loadtest.api-config")),
+                Path.of(required("loadtest.report")));
+    }
+
+    /**
+     * Parses {@code key:weight} pairs separated by commas, such as {@value #DEFAULT_MIX}.
+     */
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected key:weight in loadtest.mix but got '" + entry + "'");
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weights in loadtest.mix must not be negative: " + entry);
+            }
+            weights.put(Operation.fromKey(parts[0].trim()), weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("loadtest.mix must give at least one operation a weight");
+        }
+        return weights;
+    }
+
+    private static String required(String name) {
+        String value = System.getProperty(name);
+        if (value == null) {
+            throw new IllegalStateException("System property " + name + " is required; run the loadTest task");
+        }
+        return value;
+    }
+}
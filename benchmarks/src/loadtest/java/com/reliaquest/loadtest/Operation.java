@@ -0,0 +1,34 @@
+package com.reliaquest.loadtest;
+
+/**
+ * The seven {@code IEmployeeController} operations the load test drives, with their short names in
+ * {@code loadtest.mix}.
+ */
+enum Operation {
+    GET_ALL("all"),
+    SEARCH("search"),
+    GET_BY_ID("byId"),
+    HIGHEST_SALARY("highest"),
+    TOP_TEN("topTen"),
+    CREATE("create"),
+    DELETE("delete");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation '" + key + "' in loadtest.mix");
+    }
+}
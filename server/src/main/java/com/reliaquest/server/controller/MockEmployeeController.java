@@ -1,42 +1,220 @@
 package com.reliaquest.server.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeAggregates;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import com.reliaquest.server.model.MockEmployeeCreateResult;
+import com.reliaquest.server.model.MockEmployeeFilter;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
 import jakarta.validation.Valid;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/employee")
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    /**
+     * Response header carrying the cursor of the next page; absent on the last page.
+     */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    /**
+     * Response header carrying the change feed cursor for the data version a list was read at; clients pass it to
+     * {@code /changes} later.
+     */
+    public static final String DATA_VERSION_HEADER = "X-Data-Version";
+
+    static final int MAX_PAGE_SIZE = 1000;
+
+    static final int MAX_TOP_EARNERS = 100;
+
+    static final int MAX_BULK_SIZE = 1000;
+
+    static final int MAX_LOOKUP_SIZE = 1000;
+
+    private static final int STREAM_FLUSH_INTERVAL = 256;
+
     private final MockEmployeeService mockEmployeeService;
 
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Without {@code limit} the whole matching list is returned, as before. With it, one page is returned in insertion
+     * order, starting after the opaque cursor {@code after} taken from the previous page's
+     * {@value #NEXT_CURSOR_HEADER}. {@code fields} limits each employee to the named JSON properties.
+     *
+     * <p>The {@code ETag} is the store's epoch and data version plus the representation asked for, so
+     * {@code If-None-Match} with an unchanged version is answered with a bare 304 before any filtering or
+     * serialization. The whole list also carries a cursor for the version in
+     * {@value #DATA_VERSION_HEADER}, from which {@code /changes} can later catch a client up.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<MappingJacksonValue> getEmployees(
+            MockEmployeeFilter filter,
+            BindingResult filterErrors,
+            @RequestParam(name = "limit", required = false) Integer limit,
+            @RequestParam(name = "after", required = false) Long after,
+            @RequestParam(name = "fields", required = false) Set<String> fields,
+            WebRequest request) {
+        if (filterErrors.hasErrors()) {
+            return ResponseEntity.badRequest().body(new MappingJacksonValue(Response.error(describe(filterErrors))));
+        }
+        final var version = mockEmployeeService.getDataVersion();
+        if (request.checkNotModified(versionTag(mockEmployeeService.getDataEpoch(), version, request))) {
+            return null;
+        }
+        if (limit == null) {
+            final var employees = mockEmployeeService.getMockEmployees(filter);
+            return ResponseEntity.ok()
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .header(DATA_VERSION_HEADER, mockEmployeeService.getChangeCursor(version))
+                    .body(project(Response.handledWith(employees), fields));
+        }
+        if (limit < 1 || (after != null && after < 0)) {
+            return ResponseEntity.badRequest()
+                    .body(new MappingJacksonValue(Response.error("limit must be positive and after non-negative")));
+        }
+        final var page = mockEmployeeService.getMockEmployeePage(
+                filter, after == null ? 0 : after, Math.min(limit, MAX_PAGE_SIZE));
+        final var response = ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT);
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor().toString());
+        }
+        return response.body(project(Response.handledWith(page.employees()), fields));
     }
 
-    @GetMapping("/{id}")
-    public ResponseEntity<Response<MockEmployee>> getEmployee(@PathVariable("id") UUID uuid) {
+    /**
+     * Streams every matching employee as one JSON object per line. The list is captured once, so the stream reflects
+     * a single consistent snapshot however long the client takes to read it.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEmployees(
+            MockEmployeeFilter filter,
+            BindingResult filterErrors,
+            @RequestParam(name = "fields", required = false) Set<String> fields,
+            WebRequest request) {
+        if (filterErrors.hasErrors()) {
+            return ResponseEntity.badRequest().build();
+        }
+        final var version = mockEmployeeService.getDataVersion();
+        if (request.checkNotModified(versionTag(mockEmployeeService.getDataEpoch(), version, request))) {
+            return null;
+        }
+        final var employees = mockEmployeeService.getMockEmployees(filter);
+        final var writer = objectMapper
+                .writerFor(MockEmployee.class)
+                .with(fieldsFilter(fields))
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                int written = 0;
+                for (MockEmployee employee : employees) {
+                    writer.writeValue(generator, employee);
+                    generator.writeRaw('\n');
+                    if (++written % STREAM_FLUSH_INTERVAL == 0) {
+                        generator.flush();
+                    }
+                }
+            }
+        };
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * Maintained salary statistics. Lives under a two-segment path so servers without it answer 404 rather than
+     * treating {@code aggregates} as an employee id.
+     */
+    @GetMapping("/aggregates/salary")
+    public ResponseEntity<Response<MockEmployeeAggregates>> getSalaryAggregates(
+            @RequestParam(name = "top", defaultValue = "10") int top) {
+        if (top < 0) {
+            return ResponseEntity.badRequest().body(Response.error("top must not be negative"));
+        }
+        return ResponseEntity.ok(
+                Response.handledWith(mockEmployeeService.getAggregates(Math.min(top, MAX_TOP_EARNERS))));
+    }
+
+    /**
+     * Creates and deletes after cursor {@code since}, oldest first, with the cursor they bring the caller up to.
+     * Answers 410 when the changes cannot be replayed: the cursor is from before a restart, or the change log no longer
+     * reaches back to it. The caller then has to resync by reloading the full list.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<Response<MockEmployeeChanges>> getChanges(@RequestParam(name = "since") String since) {
         return mockEmployeeService
-                .findById(uuid)
-                .map(employee -> ResponseEntity.ok(Response.handledWith(employee)))
-                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
+                .getChangesSince(since)
+                .map(changes -> ResponseEntity.ok(Response.handledWith(changes)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.GONE)
+                        .body(Response.error("Changes since " + since + " are not available; resync required")));
+    }
+
+    /**
+     * Employees never change once created, so the {@code ETag} is derived from the employee itself and survives
+     * unrelated writes. It also varies with {@code Accept}, since JSON and Smile bodies differ.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<Response<MockEmployee>> getEmployee(@PathVariable("id") UUID uuid, WebRequest request) {
+        final var employee = mockEmployeeService.findById(uuid);
+        if (employee.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled());
+        }
+        if (request.checkNotModified(employeeTag(employee.get(), request))) {
+            return null;
+        }
+        return ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).body(Response.handledWith(employee.get()));
+    }
+
+    /**
+     * Looks up several employees by id in one request. The response lists the ones that exist, in request order;
+     * unknown ids are simply absent, so callers can tell them apart without failing the whole lookup.
+     */
+    @PostMapping("/lookup")
+    public ResponseEntity<Response<List<MockEmployee>>> lookupEmployees(@RequestBody List<UUID> uuids) {
+        if (uuids.size() > MAX_LOOKUP_SIZE) {
+            return ResponseEntity.badRequest().body(Response.error("At most " + MAX_LOOKUP_SIZE + " ids per request"));
+        }
+        return ResponseEntity.ok(Response.handledWith(mockEmployeeService.findAllById(uuids)));
     }
 
     @PostMapping()
@@ -44,8 +222,76 @@ public class MockEmployeeController {
         return Response.handledWith(mockEmployeeService.create(input));
     }
 
+    /**
+     * Creates several employees in one request. Each input is validated on its own; the response holds one result
+     * per input, in order, with either the created employee or the validation error.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<Response<List<MockEmployeeCreateResult>>> createEmployees(
+            @RequestBody List<CreateMockEmployeeInput> inputs) {
+        if (inputs.size() > MAX_BULK_SIZE) {
+            return ResponseEntity.badRequest()
+                    .body(Response.error("At most " + MAX_BULK_SIZE + " employees per request"));
+        }
+        return ResponseEntity.ok(Response.handledWith(mockEmployeeService.createAll(inputs)));
+    }
+
     @DeleteMapping()
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    /**
+     * Validator for the list at {@code version} of the store {@code epoch}, as rendered for this request: the query
+     * parameters pick the employees, page and fields, and {@code Accept} the format, so each gets its own tag.
+     */
+    static String versionTag(String epoch, long version, WebRequest request) {
+        return "\"" + epoch + "-v" + version + "-" + representation(request, true) + "\"";
+    }
+
+    private static String employeeTag(MockEmployee employee, WebRequest request) {
+        return "\"" + employee.getId() + "-" + Integer.toHexString(employee.hashCode()) + "-"
+                + representation(request, false) + "\"";
+    }
+
+    /*
+     * First 64 bits of a SHA-256 over the Accept header and, when asked, the query parameters in a canonical form:
+     * names sorted, each value kept in request order. Reordering the query keeps the tag; any other change moves it.
+     */
+    private static String representation(WebRequest request, boolean withParameters) {
+        final var canonical = new StringBuilder(Objects.toString(request.getHeader(HttpHeaders.ACCEPT), ""));
+        if (withParameters) {
+            for (final var parameter : new TreeMap<>(request.getParameterMap()).entrySet()) {
+                for (final var value : parameter.getValue()) {
+                    canonical.append("\n" + parameter.getKey() + "=" + value);
+                }
+            }
+        }
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256")
+                    .digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, Long.BYTES);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private static MappingJacksonValue project(Object body, Set<String> fields) {
+        final var value = new MappingJacksonValue(body);
+        value.setFilters(fieldsFilter(fields));
+        return value;
+    }
+
+    private static FilterProvider fieldsFilter(Set<String> fields) {
+        final var filter = fields == null || fields.isEmpty()
+                ? SimpleBeanPropertyFilter.serializeAll()
+                : SimpleBeanPropertyFilter.filterOutAllExcept(fields);
+        return new SimpleFilterProvider().addFilter(MockEmployee.FIELDS_FILTER, filter);
+    }
+
+    private static String describe(BindingResult errors) {
+        return errors.getFieldErrors().stream()
+                .map(error -> "Invalid value for parameter " + error.getField())
+                .collect(Collectors.joining("; "));
+    }
 }
@@ -0,0 +1,15 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import java.util.List;
+
+/**
+ * Salary statistics maintained by the store, small enough to answer max and top-K queries in one short response.
+ *
+ * @param count number of employees
+ * @param highestSalary highest salary, or {@code null} when there are no employees
+ * @param topEarners names of the highest earners, best first
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record MockEmployeeAggregates(int count, Integer highestSalary, List<String> topEarners) {}
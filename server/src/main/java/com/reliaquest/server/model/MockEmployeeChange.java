@@ -0,0 +1,16 @@
+package com.reliaquest.server.model;
+
+/**
+ * One entry of the store's change log.
+ *
+ * @param version data version the change produced; one bulk write logs all of its creates under the same version
+ * @param type whether the employee was created or deleted
+ * @param employee the employee as created, or as it was when deleted
+ */
+public record MockEmployeeChange(long version, Type type, MockEmployee employee) {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
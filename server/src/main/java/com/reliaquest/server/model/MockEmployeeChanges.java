@@ -0,0 +1,9 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/**
+ * The changes a client needs to bring its copy of the employee list up to {@code cursor}, oldest first. The cursor is
+ * opaque to clients, which pass it back to {@code /changes} next time.
+ */
+public record MockEmployeeChanges(String cursor, List<MockEmployeeChange> changes) {}
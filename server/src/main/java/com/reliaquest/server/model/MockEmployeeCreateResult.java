@@ -0,0 +1,18 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Outcome of one item of a bulk create: either the created employee or the reason it was rejected.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MockEmployeeCreateResult(MockEmployee employee, String error) {
+
+    public static MockEmployeeCreateResult created(MockEmployee employee) {
+        return new MockEmployeeCreateResult(employee, null);
+    }
+
+    public static MockEmployeeCreateResult rejected(String error) {
+        return new MockEmployeeCreateResult(null, error);
+    }
+}
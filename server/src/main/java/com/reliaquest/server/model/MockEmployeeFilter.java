@@ -0,0 +1,42 @@
+package com.reliaquest.server.model;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Optional predicates on the employee list, bound from query parameters. Absent values do not constrain; ranges are
+ * inclusive; {@code name} matches a substring and {@code title} the whole title, both ignoring case.
+ */
+public record MockEmployeeFilter(
+        String name, Integer minSalary, Integer maxSalary, Integer minAge, Integer maxAge, String title) {
+
+    public boolean isEmpty() {
+        return name == null
+                && minSalary == null
+                && maxSalary == null
+                && minAge == null
+                && maxAge == null
+                && title == null;
+    }
+
+    public boolean matches(MockEmployee employee) {
+        return containsIgnoringCase(employee.getName(), name)
+                && inRange(employee.getSalary(), minSalary, maxSalary)
+                && inRange(employee.getAge(), minAge, maxAge)
+                && (title == null || title.equalsIgnoreCase(employee.getTitle()));
+    }
+
+    private static boolean containsIgnoringCase(String value, String part) {
+        if (part == null) {
+            return true;
+        }
+        return Objects.nonNull(value) && value.toLowerCase(Locale.ROOT).contains(part.toLowerCase(Locale.ROOT));
+    }
+
+    private static boolean inRange(Integer value, Integer min, Integer max) {
+        if (min == null && max == null) {
+            return true;
+        }
+        return Objects.nonNull(value) && (min == null || value >= min) && (max == null || value <= max);
+    }
+}
@@ -4,11 +4,18 @@ import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeAggregates;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import com.reliaquest.server.model.MockEmployeeCreateResult;
+import com.reliaquest.server.model.MockEmployeeFilter;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,37 +29,104 @@ public class MockEmployeeService {
 
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final Validator validator;
+
+    private final MockEmployeeStore mockEmployeeStore;
+
+    /**
+     * See {@link MockEmployeeStore#epoch()}.
+     */
+    public String getDataEpoch() {
+        return mockEmployeeStore.epoch();
+    }
+
+    /**
+     * See {@link MockEmployeeStore#version()} for why callers read this before the data.
+     */
+    public long getDataVersion() {
+        return mockEmployeeStore.version();
+    }
+
+    public String getChangeCursor(long version) {
+        return mockEmployeeStore.changeCursor(version);
+    }
+
+    public Optional<MockEmployeeChanges> getChangesSince(String cursor) {
+        return mockEmployeeStore.changesSince(cursor);
+    }
+
+    public List<MockEmployee> getMockEmployees() {
+        return mockEmployeeStore.employees();
+    }
+
+    public List<MockEmployee> getMockEmployees(@NonNull MockEmployeeFilter filter) {
+        return filter.isEmpty() ? mockEmployeeStore.employees() : mockEmployeeStore.employees(filter::matches);
+    }
+
+    public MockEmployeeStore.Page getMockEmployeePage(@NonNull MockEmployeeFilter filter, long after, int limit) {
+        return mockEmployeeStore.page(filter::matches, after, limit);
+    }
+
+    public MockEmployeeAggregates getAggregates(int top) {
+        return mockEmployeeStore.aggregates(top);
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return mockEmployeeStore.findById(uuid);
+    }
+
+    public List<MockEmployee> findAllById(@NonNull List<UUID> uuids) {
+        return mockEmployeeStore.findAllById(uuids);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
-        final var mockEmployee = MockEmployee.from(
+        final var mockEmployee = newMockEmployee(input);
+        mockEmployeeStore.add(mockEmployee);
+        log.debug("Added employee: {}", mockEmployee);
+        return mockEmployee;
+    }
+
+    /**
+     * Validates each input on its own and adds every valid one in a single store write. Results are in input order.
+     */
+    public List<MockEmployeeCreateResult> createAll(@NonNull List<CreateMockEmployeeInput> inputs) {
+        final var results = new ArrayList<MockEmployeeCreateResult>(inputs.size());
+        final var accepted = new ArrayList<MockEmployee>(inputs.size());
+        for (CreateMockEmployeeInput input : inputs) {
+            final var violations = input == null ? "input: must not be null" : describe(validator.validate(input));
+            if (violations != null) {
+                results.add(MockEmployeeCreateResult.rejected(violations));
+                continue;
+            }
+            final var mockEmployee = newMockEmployee(input);
+            accepted.add(mockEmployee);
+            results.add(MockEmployeeCreateResult.created(mockEmployee));
+        }
+        mockEmployeeStore.addAll(accepted);
+        log.debug("Added {} of {} employees in bulk", accepted.size(), inputs.size());
+        return results;
+    }
+
+    private MockEmployee newMockEmployee(CreateMockEmployeeInput input) {
+        return MockEmployee.from(
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
                         faker.twitter().userName().toLowerCase()),
                 input);
-        mockEmployees.add(mockEmployee);
-        log.debug("Added employee: {}", mockEmployee);
-        return mockEmployee;
     }
 
-    public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
-        if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
-            log.debug("Removed employee: {}", mockEmployee.get());
-            return true;
+    private static String describe(Set<ConstraintViolation<CreateMockEmployeeInput>> violations) {
+        if (violations.isEmpty()) {
+            return null;
         }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
 
-        return false;
+    public boolean delete(@NonNull DeleteMockEmployeeInput input) {
+        final var mockEmployee = mockEmployeeStore.removeFirstByName(input.getName());
+        mockEmployee.ifPresent(employee -> log.debug("Removed employee: {}", employee));
+        return mockEmployee.isPresent();
     }
 }
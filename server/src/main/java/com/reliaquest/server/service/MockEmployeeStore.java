@@ -0,0 +1,363 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeAggregates;
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+import lombok.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Thread-safe employee store with an id index and a case-folded name index.
+ *
+ * <p>All state lives in an immutable {@link Snapshot} published through a volatile field. Readers never lock and
+ * always see a complete snapshot; writers serialize on a lock and publish a copy with their change applied.
+ *
+ * <p>Snapshots carry a data version, bumped by every write, that backs the HTTP validators. Versions restart with every
+ * store, so they only identify data together with the store's random {@link #epoch()}. Snapshots also carry a
+ * {@link SalaryRanking} updated incrementally on each write, which backs the aggregates.
+ *
+ * <p>Every employee gets a sequence number when it is added. Sequence numbers only grow, so they make stable paging
+ * cursors: a page started before a write continues after it without skipping or repeating survivors.
+ *
+ * <p>Every write also appends its creates and deletes to a bounded change log, so clients holding an older version can
+ * catch up with just the changes since. Once an entry is evicted, clients behind it have to reload the full list.
+ */
+@Component
+public class MockEmployeeStore {
+
+    /**
+     * Most change log entries kept; older ones are evicted first.
+     */
+    static final int CHANGE_LOG_CAPACITY = 10_000;
+
+    private static final char CURSOR_SEPARATOR = '-';
+
+    private final String epoch = Long.toHexString(ThreadLocalRandom.current().nextLong());
+
+    private final Object writeLock = new Object();
+
+    private volatile Snapshot snapshot;
+
+    private long lastSequence;
+
+    private final ArrayDeque<MockEmployeeChange> changeLog = new ArrayDeque<>();
+
+    /**
+     * Oldest version the change log can bring forward to the current one; guarded by {@link #writeLock}.
+     */
+    private long changeLogStart = 1;
+
+    public MockEmployeeStore(List<MockEmployee> mockEmployees) {
+        long[] sequences = new long[mockEmployees.size()];
+        for (int i = 0; i < sequences.length; i++) {
+            sequences[i] = ++lastSequence;
+        }
+        this.snapshot = Snapshot.of(1, mockEmployees, sequences, SalaryRanking.of(mockEmployees));
+    }
+
+    /**
+     * Random identity of this store, and so of this boot of the server. A version means nothing without it: two stores
+     * count versions from the same start, so a validator or cursor taken from one must not match the other.
+     */
+    public String epoch() {
+        return epoch;
+    }
+
+    /**
+     * Data version, incremented by every write. Read it before the data it describes: the data can then only be newer
+     * than the version, which makes a client revalidate once too often but never serve a stale list as current.
+     */
+    public long version() {
+        return snapshot.version();
+    }
+
+    /**
+     * Change feed cursor for {@code version} of this store: the epoch and the version, so a cursor handed out before a
+     * restart is recognised as foreign rather than read as a version of the new data.
+     */
+    public String changeCursor(long version) {
+        return epoch + CURSOR_SEPARATOR + version;
+    }
+
+    /**
+     * The logged changes after {@code cursor}, up to the current version, or empty when the client has to reload the
+     * full list instead: the cursor is from another epoch or malformed, the log no longer reaches back that far, or
+     * the cursor is ahead of this store. Unlike the other reads this takes the write lock, held only while the
+     * requested tail of the log is copied.
+     */
+    public Optional<MockEmployeeChanges> changesSince(@NonNull String cursor) {
+        String prefix = epoch + CURSOR_SEPARATOR;
+        if (!cursor.startsWith(prefix)) {
+            return Optional.empty();
+        }
+        long version;
+        try {
+            version = Long.parseLong(cursor.substring(prefix.length()));
+        } catch (NumberFormatException ex) {
+            return Optional.empty();
+        }
+        synchronized (writeLock) {
+            long current = snapshot.version();
+            if (version < changeLogStart || version > current) {
+                return Optional.empty();
+            }
+            List<MockEmployeeChange> changes = new ArrayList<>();
+            Iterator<MockEmployeeChange> newestFirst = changeLog.descendingIterator();
+            while (newestFirst.hasNext()) {
+                MockEmployeeChange change = newestFirst.next();
+                if (change.version() <= version) {
+                    break;
+                }
+                changes.add(change);
+            }
+            Collections.reverse(changes);
+            return Optional.of(new MockEmployeeChanges(changeCursor(current), Collections.unmodifiableList(changes)));
+        }
+    }
+
+    /**
+     * Immutable list of all employees, in insertion order.
+     */
+    public List<MockEmployee> employees() {
+        return snapshot.employees();
+    }
+
+    /**
+     * Employees matching {@code filter}, in insertion order, read from one snapshot.
+     */
+    public List<MockEmployee> employees(@NonNull Predicate<MockEmployee> filter) {
+        return snapshot.employees().stream().filter(filter).toList();
+    }
+
+    /**
+     * Up to {@code limit} employees matching {@code filter} and added after the one at cursor {@code after}, in
+     * insertion order, all read from the same snapshot. Pass {@code 0} to start from the beginning.
+     */
+    public Page page(@NonNull Predicate<MockEmployee> filter, long after, int limit) {
+        Snapshot current = snapshot;
+        List<MockEmployee> all = current.employees();
+        int from = Arrays.binarySearch(current.sequences(), after);
+        from = from >= 0 ? from + 1 : -from - 1;
+        List<MockEmployee> employees = new ArrayList<>(Math.min(limit, all.size() - from));
+        int index = from;
+        while (index < all.size() && employees.size() < limit) {
+            MockEmployee employee = all.get(index++);
+            if (filter.test(employee)) {
+                employees.add(employee);
+            }
+        }
+        Long nextCursor = index < all.size() ? current.sequences()[index - 1] : null;
+        return new Page(Collections.unmodifiableList(employees), nextCursor);
+    }
+
+    /**
+     * Count, highest salary and the names of the {@code top} highest earners, all read from one snapshot. The ranking
+     * is maintained on every write, so this costs O(top).
+     */
+    public MockEmployeeAggregates aggregates(int top) {
+        Snapshot current = snapshot;
+        List<String> topEarners =
+                current.bySalary().top(top).stream().map(MockEmployee::getName).toList();
+        return new MockEmployeeAggregates(
+                current.employees().size(), current.bySalary().highestSalary(), topEarners);
+    }
+
+    public Optional<MockEmployee> findById(@NonNull UUID uuid) {
+        return Optional.ofNullable(snapshot.byId().get(uuid));
+    }
+
+    /**
+     * The employees with the given ids that exist, in request order and read from one snapshot. Unknown and repeated
+     * ids are skipped.
+     */
+    public List<MockEmployee> findAllById(@NonNull Collection<UUID> uuids) {
+        Map<UUID, MockEmployee> byId = snapshot.byId();
+        return uuids.stream().distinct().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * Employees whose name equals {@code name}, ignoring case, in insertion order.
+     */
+    public List<MockEmployee> findByName(@NonNull String name) {
+        return snapshot.byName().getOrDefault(fold(name), List.of());
+    }
+
+    public void add(@NonNull MockEmployee mockEmployee) {
+        synchronized (writeLock) {
+            Snapshot current = snapshot;
+            List<MockEmployee> employees = new ArrayList<>(current.employees());
+            employees.add(mockEmployee);
+            long[] sequences = Arrays.copyOf(current.sequences(), employees.size());
+            sequences[sequences.length - 1] = ++lastSequence;
+            snapshot =
+                    current.withAdded(employees, sequences, current.bySalary().with(mockEmployee), mockEmployee);
+            logChange(MockEmployeeChange.Type.CREATED, mockEmployee);
+        }
+    }
+
+    /**
+     * Adds all {@code mockEmployees} in one write, so readers see either none or all of them.
+     */
+    public void addAll(@NonNull List<MockEmployee> mockEmployees) {
+        if (mockEmployees.isEmpty()) {
+            return;
+        }
+        synchronized (writeLock) {
+            Snapshot current = snapshot;
+            List<MockEmployee> employees = new ArrayList<>(current.employees());
+            employees.addAll(mockEmployees);
+            long[] sequences = Arrays.copyOf(current.sequences(), employees.size());
+            for (int i = current.employees().size(); i < sequences.length; i++) {
+                sequences[i] = ++lastSequence;
+            }
+            snapshot = Snapshot.of(current.version() + 1, employees, sequences, SalaryRanking.of(employees));
+            mockEmployees.forEach(mockEmployee -> logChange(MockEmployeeChange.Type.CREATED, mockEmployee));
+        }
+    }
+
+    /**
+     * Removes the first employee, in insertion order, whose name equals {@code name} ignoring case.
+     */
+    public Optional<MockEmployee> removeFirstByName(@NonNull String name) {
+        synchronized (writeLock) {
+            List<MockEmployee> matches = findByName(name);
+            if (matches.isEmpty()) {
+                return Optional.empty();
+            }
+            MockEmployee removed = matches.get(0);
+            Snapshot current = snapshot;
+            int index = current.employees().indexOf(removed);
+            List<MockEmployee> employees = new ArrayList<>(current.employees());
+            employees.remove(index);
+            long[] sequences = new long[employees.size()];
+            System.arraycopy(current.sequences(), 0, sequences, 0, index);
+            System.arraycopy(current.sequences(), index + 1, sequences, index, sequences.length - index);
+            snapshot =
+                    current.withRemoved(employees, sequences, current.bySalary().without(removed), removed);
+            logChange(MockEmployeeChange.Type.DELETED, removed);
+            return Optional.of(removed);
+        }
+    }
+
+    /**
+     * Logs a change under the version just published. Callers hold {@link #writeLock}.
+     */
+    private void logChange(MockEmployeeChange.Type type, MockEmployee mockEmployee) {
+        changeLog.addLast(new MockEmployeeChange(snapshot.version(), type, mockEmployee));
+        while (changeLog.size() > CHANGE_LOG_CAPACITY) {
+            changeLogStart = changeLog.removeFirst().version();
+        }
+    }
+
+    static String fold(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * One page of employees; {@code nextCursor} is {@code null} on the last page.
+     */
+    public record Page(List<MockEmployee> employees, Long nextCursor) {}
+
+    /**
+     * The constructor and bulk adds build the indexes from scratch. Single adds and removes copy the previous maps and
+     * change the one entry they touch, which saves refolding every name and rebuilding every name list.
+     */
+    private record Snapshot(
+            long version,
+            List<MockEmployee> employees,
+            long[] sequences,
+            SalaryRanking bySalary,
+            Map<UUID, MockEmployee> byId,
+            Map<String, List<MockEmployee>> byName) {
+
+        static Snapshot of(long version, List<MockEmployee> employees, long[] sequences, SalaryRanking bySalary) {
+            Map<UUID, MockEmployee> byId = new HashMap<>();
+            Map<String, List<MockEmployee>> byName = new HashMap<>();
+            for (MockEmployee employee : employees) {
+                if (Objects.nonNull(employee.getId())) {
+                    byId.putIfAbsent(employee.getId(), employee);
+                }
+                if (Objects.nonNull(employee.getName())) {
+                    byName.computeIfAbsent(fold(employee.getName()), ignored -> new ArrayList<>())
+                            .add(employee);
+                }
+            }
+            byName.replaceAll((name, matches) -> Collections.unmodifiableList(matches));
+            return new Snapshot(
+                    version,
+                    Collections.unmodifiableList(new ArrayList<>(employees)),
+                    sequences,
+                    bySalary,
+                    Collections.unmodifiableMap(byId),
+                    Collections.unmodifiableMap(byName));
+        }
+
+        /**
+         * The next version, with {@code added} appended to {@code employees}.
+         */
+        Snapshot withAdded(List<MockEmployee> employees, long[] sequences, SalaryRanking bySalary, MockEmployee added) {
+            Map<UUID, MockEmployee> nextById = byId;
+            if (Objects.nonNull(added.getId()) && !byId.containsKey(added.getId())) {
+                nextById = new HashMap<>(byId);
+                nextById.put(added.getId(), added);
+                nextById = Collections.unmodifiableMap(nextById);
+            }
+            Map<String, List<MockEmployee>> nextByName = byName;
+            if (Objects.nonNull(added.getName())) {
+                String name = fold(added.getName());
+                List<MockEmployee> matches = new ArrayList<>(byName.getOrDefault(name, List.of()));
+                matches.add(added);
+                nextByName = new HashMap<>(byName);
+                nextByName.put(name, Collections.unmodifiableList(matches));
+                nextByName = Collections.unmodifiableMap(nextByName);
+            }
+            return new Snapshot(
+                    version + 1, Collections.unmodifiableList(employees), sequences, bySalary, nextById, nextByName);
+        }
+
+        /**
+         * The next version, with {@code removed} already taken out of {@code employees}. Ids are random UUIDs, so the
+         * id index only ever holds {@code removed} itself under its id.
+         */
+        Snapshot withRemoved(
+                List<MockEmployee> employees, long[] sequences, SalaryRanking bySalary, MockEmployee removed) {
+            Map<UUID, MockEmployee> nextById = byId;
+            if (Objects.nonNull(removed.getId()) && byId.get(removed.getId()) == removed) {
+                nextById = new HashMap<>(byId);
+                nextById.remove(removed.getId());
+                nextById = Collections.unmodifiableMap(nextById);
+            }
+            Map<String, List<MockEmployee>> nextByName = byName;
+            if (Objects.nonNull(removed.getName())) {
+                String name = fold(removed.getName());
+                List<MockEmployee> matches = new ArrayList<>(byName.getOrDefault(name, List.of()));
+                matches.remove(removed);
+                nextByName = new HashMap<>(byName);
+                if (matches.isEmpty()) {
+                    nextByName.remove(name);
+                } else {
+                    nextByName.put(name, Collections.unmodifiableList(matches));
+                }
+                nextByName = Collections.unmodifiableMap(nextByName);
+            }
+            return new Snapshot(
+                    version + 1, Collections.unmodifiableList(employees), sequences, bySalary, nextById, nextByName);
+        }
+    }
+}
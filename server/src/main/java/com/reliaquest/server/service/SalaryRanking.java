@@ -0,0 +1,75 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.NonNull;
+
+/**
+ * Immutable ranking of employees by salary, highest first, kept sorted across writes so the maximum and any top-K are
+ * read off the front instead of scanning the store.
+ *
+ * <p>Ties are broken by name and then id, matching the ordering the api applies to its own salary index. Employees
+ * without a salary rank last.
+ */
+final class SalaryRanking {
+
+    static final Comparator<MockEmployee> ORDER = Comparator.comparing(
+                    MockEmployee::getSalary, Comparator.nullsLast(Comparator.<Integer>reverseOrder()))
+            .thenComparing(MockEmployee::getName, Comparator.nullsLast(Comparator.<String>naturalOrder()))
+            .thenComparing(MockEmployee::getId, Comparator.nullsLast(Comparator.<UUID>naturalOrder()));
+
+    private static final MockEmployee[] EMPTY = new MockEmployee[0];
+
+    private final MockEmployee[] ranked;
+
+    private SalaryRanking(MockEmployee[] ranked) {
+        this.ranked = ranked;
+    }
+
+    static SalaryRanking of(@NonNull Collection<MockEmployee> employees) {
+        MockEmployee[] ranked = employees.toArray(EMPTY);
+        Arrays.sort(ranked, ORDER);
+        return new SalaryRanking(ranked);
+    }
+
+    int size() {
+        return ranked.length;
+    }
+
+    /**
+     * Highest salary, or {@code null} when no employee has one.
+     */
+    Integer highestSalary() {
+        return ranked.length == 0 ? null : ranked[0].getSalary();
+    }
+
+    List<MockEmployee> top(int k) {
+        return List.of(Arrays.copyOf(ranked, Math.max(0, Math.min(k, ranked.length))));
+    }
+
+    SalaryRanking with(@NonNull MockEmployee employee) {
+        int index = Arrays.binarySearch(ranked, employee, ORDER);
+        int insertAt = index >= 0 ? index : -index - 1;
+        MockEmployee[] next = new MockEmployee[ranked.length + 1];
+        System.arraycopy(ranked, 0, next, 0, insertAt);
+        next[insertAt] = employee;
+        System.arraycopy(ranked, insertAt, next, insertAt + 1, ranked.length - insertAt);
+        return new SalaryRanking(next);
+    }
+
+    SalaryRanking without(@NonNull MockEmployee employee) {
+        int index = Arrays.binarySearch(ranked, employee, ORDER);
+        if (index < 0 || !Objects.equals(ranked[index], employee)) {
+            return this;
+        }
+        MockEmployee[] next = new MockEmployee[ranked.length - 1];
+        System.arraycopy(ranked, 0, next, 0, index);
+        System.arraycopy(ranked, index + 1, next, index, next.length - index);
+        return new SalaryRanking(next);
+    }
+}
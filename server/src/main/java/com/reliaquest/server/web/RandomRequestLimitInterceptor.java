@@ -1,5 +1,7 @@
 package com.reliaquest.server.web;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.time.Duration;
@@ -18,12 +20,21 @@ public class RandomRequestLimitInterceptor implements HandlerInterceptor {
 
     private final AtomicReference<RequestLimit> requestLimit = new AtomicReference<>(RequestLimit.init());
 
+    private final Counter rejections;
+
+    public RandomRequestLimitInterceptor(MeterRegistry meterRegistry) {
+        this.rejections = Counter.builder("mock.requests.rejected")
+                .description("Requests answered with 429 by the random request limit")
+                .register(meterRegistry);
+    }
+
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
         if (requestLimit.get().getCount() >= REQUEST_LIMIT) {
             if (Instant.now()
                     .minus(REQUEST_BACKOFF_DURATION)
                     .isBefore(requestLimit.get().getLastRequested())) {
+                rejections.increment();
                 response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
                 return false;
             }
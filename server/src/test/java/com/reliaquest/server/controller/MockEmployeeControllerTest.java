@@ -0,0 +1,84 @@
+package com.reliaquest.server.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.service.MockEmployeeStore;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+class MockEmployeeControllerTest {
+
+    @Test
+    void testVersionTag_shouldDiffer_betweenStoresAtTheSameVersion() {
+        MockEmployeeStore first = new MockEmployeeStore(List.of());
+        MockEmployeeStore second = new MockEmployeeStore(List.of());
+        WebRequest request = request(MediaType.APPLICATION_JSON_VALUE, null);
+
+        assertEquals(first.version(), second.version());
+        assertNotEquals(
+                MockEmployeeController.versionTag(first.epoch(), first.version(), request),
+                MockEmployeeController.versionTag(second.epoch(), second.version(), request));
+    }
+
+    @Test
+    void testVersionTag_shouldDiffer_betweenRepresentationsOfTheSameVersion() {
+        MockEmployeeStore store = new MockEmployeeStore(List.of());
+        List<WebRequest> requests = List.of(
+                request(MediaType.APPLICATION_JSON_VALUE, null),
+                request("application/x-jackson-smile", null),
+                request(MediaType.APPLICATION_NDJSON_VALUE, null),
+                request(MediaType.APPLICATION_JSON_VALUE, "fields=name"),
+                request(MediaType.APPLICATION_JSON_VALUE, "limit=10"));
+
+        List<String> tags = requests.stream()
+                .map(request -> MockEmployeeController.versionTag(store.epoch(), store.version(), request))
+                .distinct()
+                .toList();
+
+        assertEquals(requests.size(), tags.size());
+        assertEquals(
+                MockEmployeeController.versionTag(store.epoch(), store.version(), requests.get(0)),
+                MockEmployeeController.versionTag(
+                        store.epoch(), store.version(), request(MediaType.APPLICATION_JSON_VALUE, null)));
+    }
+
+    @Test
+    void testVersionTag_shouldMatch_whenOnlyTheParameterOrderDiffers() {
+        MockEmployeeStore store = new MockEmployeeStore(List.of());
+
+        String tag = MockEmployeeController.versionTag(
+                store.epoch(), store.version(), request(MediaType.APPLICATION_JSON_VALUE, "name=ada&limit=10"));
+
+        assertEquals(
+                tag,
+                MockEmployeeController.versionTag(
+                        store.epoch(),
+                        store.version(),
+                        request(MediaType.APPLICATION_JSON_VALUE, "limit=10&name=ada")));
+        assertNotEquals(
+                tag,
+                MockEmployeeController.versionTag(
+                        store.epoch(),
+                        store.version(),
+                        request(MediaType.APPLICATION_JSON_VALUE, "name=ada&limit=11")));
+        assertTrue(tag.matches("\"[0-9a-f]+-v\\d+-[0-9a-f]{16}\""), tag);
+    }
+
+    private static WebRequest request(String accept, String query) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employee");
+        request.addHeader(HttpHeaders.ACCEPT, accept);
+        if (query != null) {
+            request.setQueryString(query);
+            for (String pair : query.split("&")) {
+                String[] parameter = pair.split("=");
+                request.addParameter(parameter[0], parameter[1]);
+            }
+        }
+        return new ServletWebRequest(request);
+    }
+}
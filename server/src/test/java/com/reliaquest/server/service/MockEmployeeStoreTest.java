@@ -0,0 +1,84 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeStoreTest {
+
+    @Test
+    void testChangesSince_shouldReplayChanges_afterACursorOfThisStore() {
+        MockEmployeeStore store = new MockEmployeeStore(List.of());
+        String cursor = store.changeCursor(store.version());
+        MockEmployee hired = employee("Jane Roe");
+        store.add(hired);
+
+        MockEmployeeChanges changes = store.changesSince(cursor).orElseThrow();
+
+        assertEquals(store.changeCursor(store.version()), changes.cursor());
+        assertEquals(1, changes.changes().size());
+        assertEquals(MockEmployeeChange.Type.CREATED, changes.changes().get(0).type());
+        assertSame(hired, changes.changes().get(0).employee());
+    }
+
+    @Test
+    void testChangesSince_shouldRequireResync_forACursorFromAnotherStore() {
+        MockEmployeeStore restarted = new MockEmployeeStore(List.of());
+        MockEmployeeStore store = new MockEmployeeStore(List.of());
+        store.add(employee("Jane Roe"));
+        restarted.add(employee("John Doe"));
+
+        assertTrue(store.changesSince(restarted.changeCursor(1)).isEmpty());
+        assertTrue(store.changesSince("1").isEmpty());
+        assertTrue(store.changesSince(store.epoch() + "-x").isEmpty());
+        assertTrue(store.changesSince(store.changeCursor(1)).isPresent());
+    }
+
+    @Test
+    void testChangesSince_shouldRequireResync_onceTheLogNoLongerReachesTheCursor() {
+        MockEmployeeStore store = new MockEmployeeStore(List.of());
+        String oldest = store.changeCursor(store.version());
+        List<MockEmployee> hired = new ArrayList<>();
+        for (int i = 0; i <= MockEmployeeStore.CHANGE_LOG_CAPACITY; i++) {
+            hired.add(employee("Employee " + i));
+        }
+        store.addAll(hired);
+        String afterBulk = store.changeCursor(store.version());
+        store.add(employee("Jane Roe"));
+
+        assertTrue(store.changesSince(oldest).isEmpty());
+        assertTrue(store.changesSince(store.changeCursor(store.version() + 1)).isEmpty());
+        assertEquals(1, store.changesSince(afterBulk).orElseThrow().changes().size());
+    }
+
+    @Test
+    void testAddAndRemove_shouldKeepIdAndNameIndexesInStep() {
+        MockEmployee first = employee("Jane Roe");
+        MockEmployee other = employee("John Doe");
+        MockEmployeeStore store = new MockEmployeeStore(List.of(first, other));
+        MockEmployee namesake = employee("JANE ROE");
+
+        store.add(namesake);
+
+        assertEquals(List.of(first, namesake), store.findByName("jane roe"));
+        assertSame(namesake, store.findById(namesake.getId()).orElseThrow());
+        assertEquals(Optional.of(first), store.removeFirstByName("Jane Roe"));
+        assertEquals(List.of(namesake), store.findByName("Jane Roe"));
+        assertTrue(store.findById(first.getId()).isEmpty());
+        assertEquals(Optional.of(namesake), store.removeFirstByName("Jane Roe"));
+        assertTrue(store.findByName("Jane Roe").isEmpty());
+        assertEquals(List.of(other), store.findByName("John Doe"));
+        assertEquals(List.of(other), store.employees());
+    }
+
+    private static MockEmployee employee(String name) {
+        return new MockEmployee(UUID.randomUUID(), name, 50000, 30, "Engineer", "employee@example.com");
+    }
+}